@@ -0,0 +1,26 @@
+package ru.practicum.concurrency;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Исполнитель «виртуальный поток на задачу». Модуль собирается под Java 11,
+ * поэтому Executors.newVirtualThreadPerTaskExecutor вызывается через reflection и доступен только на JDK 21+.
+ */
+@UtilityClass
+public class VirtualThreads {
+
+    public ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | InvocationTargetException e) {
+            throw new IllegalStateException("Виртуальные потоки доступны начиная с JDK 21, текущая версия: "
+                    + Runtime.version(), e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Не удалось создать исполнитель виртуальных потоков", e);
+        }
+    }
+}
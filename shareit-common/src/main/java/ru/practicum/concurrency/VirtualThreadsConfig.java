@@ -0,0 +1,33 @@
+package ru.practicum.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Режим виртуальных потоков (профиль virtual-threads, JDK 21+) для shareit-server и гейтвея:
+ * Tomcat обрабатывает каждый запрос в отдельном виртуальном потоке, и ожидание JDBC или ответа
+ * shareit-server не занимает поток платформы. Число одновременных запросов ограничивают
+ * server.tomcat.max-connections и пулы соединений, а не server.tomcat.threads.max.
+ * В реактивном режиме гейтвея настройка не действует.
+ * Закрепление потоков за носителями отслеживается флагом JVM -Djdk.tracePinnedThreads из Dockerfile:
+ * JDK читает его один раз при загрузке класса VirtualThread, поэтому задавать его из контекста Spring ненадёжно.
+ */
+@Slf4j
+@AutoConfiguration
+@ConditionalOnClass(ProtocolHandler.class)
+@ConditionalOnProperty(name = "shareit.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsCustomizer() {
+        return protocolHandler -> {
+            protocolHandler.setExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+            log.info("Запросы Tomcat обрабатываются в виртуальных потоках");
+        };
+    }
+}
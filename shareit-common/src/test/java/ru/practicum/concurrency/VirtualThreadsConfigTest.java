@@ -0,0 +1,23 @@
+package ru.practicum.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(VirtualThreadsConfig.class));
+
+    @Test
+    void disabledByDefaultTest() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean("virtualThreadsCustomizer"));
+    }
+
+    @Test
+    void enabledByPropertyTest() {
+        contextRunner.withPropertyValues("shareit.virtual-threads.enabled=true")
+                .run(context -> assertThat(context).hasBean("virtualThreadsCustomizer"));
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.concurrency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadsTest {
+
+    @Test
+    void newVirtualThreadPerTaskExecutorTest() throws Exception {
+        if (Runtime.version().feature() < 21) {
+            Assertions.assertThrows(IllegalStateException.class, VirtualThreads::newVirtualThreadPerTaskExecutor);
+            return;
+        }
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        Assertions.assertEquals(Boolean.TRUE,
+                executor.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get());
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность RestTemplate на общем пуле соединений при 64 параллельных запросах
+ * к заглушке сервера, отвечающей за LATENCY_MILLIS. Пока пул меньше числа потоков,
+ * пропускная способность растёт примерно как maxPerRoute / LATENCY_MILLIS.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(64)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+    private static final int LATENCY_MILLIS = 5;
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"2", "16", "64"})
+    int maxPerRoute;
+
+    HttpServer server;
+    ExecutorService serverExecutor;
+    CloseableHttpClient httpClient;
+    RestTemplate restTemplate;
+    String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(128);
+        server.setExecutor(serverExecutor);
+        server.createContext("/items", exchange -> {
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/items";
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxTotal(maxPerRoute);
+        properties.setMaxPerRoute(maxPerRoute);
+        HttpClientConfig config = new HttpClientConfig();
+        httpClient = config.httpClient(config.connectionManager(properties), properties);
+        restTemplate = new RestTemplate(config.clientHttpRequestFactory(httpClient));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String get() {
+        return restTemplate.getForObject(url, String.class);
+    }
+}
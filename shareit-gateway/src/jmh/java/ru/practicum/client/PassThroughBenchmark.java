@@ -0,0 +1,118 @@
+package ru.practicum.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ответ со списком бронирований от заглушки сервера: разбор в List и повторная сериализация,
+ * как раньше делал гейтвей, против копирования тела через PassThrough.
+ * Профилировщик gc показывает выделение памяти на запрос (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PassThroughBenchmark {
+    private static final String BOOKING = "{\"id\":%d,\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\","
+            + "\"status\":\"WAITING\",\"booker\":{\"id\":2,\"email\":\"booker@mail.ru\",\"name\":\"Booker\"},"
+            + "\"item\":{\"id\":%d,\"name\":\"Дрель\",\"description\":\"Ударная дрель\",\"available\":true,\"requestId\":0}}";
+
+    @Param({"10", "100"})
+    int listSize;
+
+    HttpServer server;
+    ExecutorService serverExecutor;
+    CloseableHttpClient httpClient;
+    RestTemplate restTemplate;
+    MappingJackson2HttpMessageConverter converter;
+    HttpEntity<Void> httpEntity;
+    String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringJoiner bookings = new StringJoiner(",", "[", "]");
+        for (int i = 1; i <= listSize; i++) {
+            bookings.add(String.format(BOOKING, i, i));
+        }
+        byte[] body = bookings.toString().getBytes(StandardCharsets.UTF_8);
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/bookings", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/bookings";
+
+        HttpClientProperties properties = new HttpClientProperties();
+        HttpClientConfig config = new HttpClientConfig();
+        httpClient = config.httpClient(config.connectionManager(properties), properties);
+        restTemplate = new RestTemplate(config.clientHttpRequestFactory(httpClient));
+        converter = new MappingJackson2HttpMessageConverter();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.set("X-Sharer-User-Id", "2");
+        httpEntity = new HttpEntity<>(headers);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse parsed() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<?> bookings = restTemplate.exchange(url, HttpMethod.GET, httpEntity, List.class).getBody();
+        converter.write(bookings, MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse passThrough() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        restTemplate.execute(url, HttpMethod.GET, PassThrough.headersOf(httpEntity), PassThrough.to(response));
+        return response;
+    }
+}
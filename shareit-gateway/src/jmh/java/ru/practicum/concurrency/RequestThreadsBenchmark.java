@@ -0,0 +1,116 @@
+package ru.practicum.concurrency;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.client.HttpClientConfig;
+import ru.practicum.client.HttpClientProperties;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пачка из CONCURRENT_REQUESTS одновременных запросов через RestTemplate к заглушке сервера,
+ * отвечающей за LATENCY_MILLIS. platform — пул из 200 потоков, как у Tomcat по умолчанию:
+ * запросы проходят волнами по 200. virtual — поток на запрос (только JDK 21+), ограничение — пул соединений.
+ * Профилировщик gc показывает выделение памяти на пачку; стеки потоков платформы в него не входят.
+ * Сравнение вариантов требует JDK 21: mvn -Pbenchmark test-compile exec:exec -Djmh.includes=RequestThreads.
+ * На JDK 17 вариант virtual падает при инициализации, и измерить можно только platform.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestThreadsBenchmark {
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int LATENCY_MILLIS = 20;
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    HttpServer server;
+    ExecutorService serverExecutor;
+    ExecutorService requestExecutor;
+    CloseableHttpClient httpClient;
+    RestTemplate restTemplate;
+    String url;
+
+    @Setup
+    public void setUp() throws IOException {
+        requestExecutor = "virtual".equals(threads)
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/items", exchange -> {
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/items";
+
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxTotal(CONCURRENT_REQUESTS);
+        properties.setMaxPerRoute(CONCURRENT_REQUESTS);
+        HttpClientConfig config = new HttpClientConfig();
+        httpClient = config.httpClient(config.connectionManager(properties), properties);
+        restTemplate = new RestTemplate(config.clientHttpRequestFactory(httpClient));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        requestExecutor.shutdownNow();
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws InterruptedException, ExecutionException {
+        List<Future<String>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(requestExecutor.submit(() -> restTemplate.getForObject(url, String.class)));
+        }
+        int completed = 0;
+        for (Future<String> response : responses) {
+            response.get();
+            completed++;
+        }
+        return completed;
+    }
+}
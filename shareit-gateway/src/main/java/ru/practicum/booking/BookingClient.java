@@ -3,33 +3,40 @@ package ru.practicum.booking;
 import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.booking.dto.BookingDto;
 import ru.practicum.booking.dto.BookingDtoCreate;
+import ru.practicum.client.PassThrough;
 import ru.practicum.exception.DataNotFound;
 import ru.practicum.exception.NotFoundBookingStatusException;
 
+import javax.servlet.http.HttpServletResponse;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
 
 @Component
+@Profile("!reactive")
 public class BookingClient {
     private static final String API_PREFIX = "/bookings";
     private RestTemplate restTemplate;
 
-    public BookingClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory) {
         this.restTemplate = builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .requestFactory(() -> requestFactory)
                 .build();
     }
 
@@ -63,11 +70,12 @@ public class BookingClient {
     }
 
     @SneakyThrows
-    public List<BookingDto> getAllBookingsByBooker(long userId, String state, int from, int size) {
-        String url = "?from=" + from + "&size=" + size + "&state=" + state;
+    public void getAllBookingsByBooker(long userId, String state, int from, int size, String after,
+                                       HttpServletResponse response) {
         HttpEntity<BookingDtoCreate> httpEntity = getHttpEntity(userId, null);
         try {
-            return restTemplate.exchange(url, HttpMethod.GET, httpEntity, List.class).getBody();
+            restTemplate.execute(listParameters(after), HttpMethod.GET, PassThrough.headersOf(httpEntity),
+                    PassThrough.to(response), listVariables(state, from, size, after));
         } catch (HttpStatusCodeException e) {
             if (e.getMessage().contains("UNSUPPORTED")) {
                 throw new NotFoundBookingStatusException("Unknown state: " + state);
@@ -80,11 +88,12 @@ public class BookingClient {
     }
 
     @SneakyThrows
-    public List<BookingDto> getAllBookingsByOwner(long userId, String state, int from, int size) {
-        String url = "/owner?from=" + from + "&size=" + size + "&state=" + state;
+    public void getAllBookingsByOwner(long userId, String state, int from, int size, String after,
+                                      HttpServletResponse response) {
         HttpEntity<BookingDtoCreate> httpEntity = getHttpEntity(userId, null);
         try {
-            return restTemplate.exchange(url, HttpMethod.GET, httpEntity, List.class).getBody();
+            restTemplate.execute("/owner" + listParameters(after), HttpMethod.GET, PassThrough.headersOf(httpEntity),
+                    PassThrough.to(response), listVariables(state, from, size, after));
         } catch (HttpStatusCodeException e) {
             if (e.getMessage().contains("UNSUPPORTED")) {
                 throw new NotFoundBookingStatusException("Unknown state: " + state);
@@ -95,6 +104,22 @@ public class BookingClient {
         }
     }
 
+    private String listParameters(String after) {
+        String parameters = "?from={from}&size={size}&state={state}";
+        return after == null ? parameters : parameters + "&after={after}";
+    }
+
+    private Map<String, Object> listVariables(String state, int from, int size, String after) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("from", from);
+        variables.put("size", size);
+        variables.put("state", state);
+        if (after != null) {
+            variables.put("after", after);
+        }
+        return variables;
+    }
+
     private HttpEntity<BookingDtoCreate> getHttpEntity(long userId, BookingDtoCreate bookingDto) {
         HttpHeaders headers = new HttpHeaders();
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
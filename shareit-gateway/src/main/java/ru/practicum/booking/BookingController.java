@@ -2,6 +2,7 @@ package ru.practicum.booking;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.booking.dto.BookingDto;
@@ -9,12 +10,13 @@ import ru.practicum.booking.dto.BookingDtoCreate;
 import ru.practicum.constans.Constants;
 import ru.practicum.exception.Marker;
 
-import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 
 @Slf4j
 @RestController
 @RequestMapping(path = "/bookings")
 @AllArgsConstructor
+@Profile("!reactive")
 public class BookingController {
     private BookingClient bookingClient;
 
@@ -42,20 +44,24 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getAllBookingsByBooker(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
-                                                   @RequestParam(defaultValue = "0") int from,
-                                                   @RequestParam(defaultValue = "5") int size,
-                                                   @RequestParam(defaultValue = "ALL") String state) {
+    public void getAllBookingsByBooker(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                       @RequestParam(defaultValue = "0") int from,
+                                       @RequestParam(defaultValue = "5") int size,
+                                       @RequestParam(defaultValue = "ALL") String state,
+                                       @RequestParam(required = false) String after,
+                                       HttpServletResponse response) {
         log.info("Выполняется запрос на получение бронирований от пользователя под ID: {}, со статусом: {}", userId, state);
-        return bookingClient.getAllBookingsByBooker(userId, state, from, size);
+        bookingClient.getAllBookingsByBooker(userId, state, from, size, after, response);
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getAllBookingByOwner(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
-                                                 @RequestParam(defaultValue = "0") int from,
-                                                 @RequestParam(defaultValue = "5") int size,
-                                                 @RequestParam(defaultValue = "ALL") String state) {
+    public void getAllBookingByOwner(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                     @RequestParam(defaultValue = "0") int from,
+                                     @RequestParam(defaultValue = "5") int size,
+                                     @RequestParam(defaultValue = "ALL") String state,
+                                     @RequestParam(required = false) String after,
+                                     HttpServletResponse response) {
         log.info("Выполняется запрос на получение всех бронирований от владельца под ID: {}, со статусом: {}", userId, state);
-        return bookingClient.getAllBookingsByOwner(userId, state, from, size);
+        bookingClient.getAllBookingsByOwner(userId, state, from, size, after, response);
     }
 }
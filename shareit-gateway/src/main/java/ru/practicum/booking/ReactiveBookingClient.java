@@ -0,0 +1,92 @@
+package ru.practicum.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+import ru.practicum.booking.dto.BookingDto;
+import ru.practicum.booking.dto.BookingDtoCreate;
+import ru.practicum.client.ServerErrors;
+import ru.practicum.exception.DataNotFound;
+import ru.practicum.exception.NotFoundBookingStatusException;
+
+import java.net.URI;
+import java.util.List;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+@Component
+@Profile("reactive")
+public class ReactiveBookingClient {
+    private static final String API_PREFIX = "/bookings";
+    private final WebClient webClient;
+
+    public ReactiveBookingClient(@Value("${shareIt-server.url}") String serverUrl, WebClient.Builder builder) {
+        this.webClient = builder.baseUrl(serverUrl + API_PREFIX).build();
+    }
+
+    public Mono<BookingDto> createBooking(long userId, BookingDtoCreate bookingDto) {
+        return webClient.post()
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .bodyValue(bookingDto)
+                .retrieve()
+                .bodyToMono(BookingDto.class)
+                .onErrorMap(WebClientResponseException.class, ServerErrors::badRequestOrNotFound);
+    }
+
+    public Mono<BookingDto> confirmationBooking(long userId, long bookingId, boolean approved) {
+        return webClient.patch()
+                .uri(uriBuilder -> uriBuilder.path("/{id}").queryParam("approved", approved).build(bookingId))
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToMono(BookingDto.class)
+                .onErrorMap(WebClientResponseException.class, ServerErrors::badRequestOrNotFound);
+    }
+
+    public Mono<BookingDto> getBookingById(long userId, long bookingId) {
+        return webClient.get().uri("/{id}", bookingId)
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToMono(BookingDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new DataNotFound(e.getMessage()));
+    }
+
+    public Mono<ResponseEntity<List<BookingDto>>> getAllBookingsByBooker(long userId, String state, int from, int size,
+                                                                         String after) {
+        return getBookings("", userId, state, from, size, after);
+    }
+
+    public Mono<ResponseEntity<List<BookingDto>>> getAllBookingsByOwner(long userId, String state, int from, int size,
+                                                                        String after) {
+        return getBookings("/owner", userId, state, from, size, after);
+    }
+
+    private Mono<ResponseEntity<List<BookingDto>>> getBookings(String path, long userId, String state, int from, int size,
+                                                               String after) {
+        return webClient.get()
+                .uri(uriBuilder -> bookingsUri(uriBuilder.path(path), state, from, size, after))
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .toEntityList(BookingDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    if (e.getResponseBodyAsString().contains("UNSUPPORTED")) {
+                        return new NotFoundBookingStatusException("Unknown state: " + state);
+                    }
+                    return ServerErrors.badRequestOrNotFound(e);
+                });
+    }
+
+    private URI bookingsUri(UriBuilder uriBuilder, String state, int from, int size, String after) {
+        uriBuilder.queryParam("from", from)
+                .queryParam("size", size)
+                .queryParam("state", "{state}");
+        if (after == null) {
+            return uriBuilder.build(state);
+        }
+        return uriBuilder.queryParam("after", "{after}").build(state, after);
+    }
+}
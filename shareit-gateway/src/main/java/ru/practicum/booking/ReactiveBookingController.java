@@ -0,0 +1,78 @@
+package ru.practicum.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.booking.dto.BookingDto;
+import ru.practicum.booking.dto.BookingDtoCreate;
+import ru.practicum.constans.Constants;
+import ru.practicum.exception.Marker;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping(path = "/bookings")
+@AllArgsConstructor
+@Profile("reactive")
+public class ReactiveBookingController {
+    private ReactiveBookingClient bookingClient;
+
+
+    @PostMapping
+    public Mono<BookingDto> createBooking(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                          @Validated({Marker.OnCreate.class}) @RequestBody BookingDtoCreate bookingDto) {
+        log.info("Выполняется запрос на бронирование вещи под ID: {} от пользователя под ID: {}", bookingDto.getId(), userId);
+        return bookingClient.createBooking(userId, bookingDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<BookingDto> confirmationBooking(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                                @PathVariable long bookingId,
+                                                @RequestParam boolean approved) {
+        log.info("Выполняется запрос на изменение статуса бронирования под ID: {} от пользователя под ID: {}", bookingId, userId);
+        return bookingClient.confirmationBooking(userId, bookingId, approved);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<BookingDto> getBookingById(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                           @PathVariable long bookingId) {
+        log.info("Выполняется запрос на получение информации о бронировании под ID: {} от пользователя под ID: {}", bookingId, userId);
+        return bookingClient.getBookingById(userId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<BookingDto>>> getAllBookingsByBooker(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                                                         @RequestParam(defaultValue = "0") int from,
+                                                                         @RequestParam(defaultValue = "5") int size,
+                                                                         @RequestParam(defaultValue = "ALL") String state,
+                                                                         @RequestParam(required = false) String after) {
+        log.info("Выполняется запрос на получение бронирований от пользователя под ID: {}, со статусом: {}", userId, state);
+        return withNextCursor(bookingClient.getAllBookingsByBooker(userId, state, from, size, after));
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<List<BookingDto>>> getAllBookingByOwner(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                                                                       @RequestParam(defaultValue = "0") int from,
+                                                                       @RequestParam(defaultValue = "5") int size,
+                                                                       @RequestParam(defaultValue = "ALL") String state,
+                                                                       @RequestParam(required = false) String after) {
+        log.info("Выполняется запрос на получение всех бронирований от владельца под ID: {}, со статусом: {}", userId, state);
+        return withNextCursor(bookingClient.getAllBookingsByOwner(userId, state, from, size, after));
+    }
+
+    private Mono<ResponseEntity<List<BookingDto>>> withNextCursor(Mono<ResponseEntity<List<BookingDto>>> bookings) {
+        return bookings.map(response -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            String nextCursor = response.getHeaders().getFirst(Constants.NEXT_CURSOR_HEADER_NAME);
+            if (nextCursor != null) {
+                builder.header(Constants.NEXT_CURSOR_HEADER_NAME, nextCursor);
+            }
+            return builder.body(response.getBody());
+        });
+    }
+}
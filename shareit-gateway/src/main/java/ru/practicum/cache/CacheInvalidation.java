@@ -0,0 +1,120 @@
+package ru.practicum.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.client.Routes;
+
+import java.io.IOException;
+
+/**
+ * Какие записи ResponseCache устарели после записи клиента. Ключи кэша различаются путём и пользователем,
+ * поэтому сбрасываются пути изменённых ресурсов и выдачи пользователей, которых запись касается:
+ * автора, а для бронирования — и арендатора из ответа сервера. Если владелец вещи гейтвею неизвестен,
+ * сбрасывается путь его выдачи у всех пользователей (например, /items или /bookings/owner).
+ * Правка и удаление пользователя и правка вещи меняют данные во многих выдачах и случаются редко,
+ * поэтому сбрасывают кэши зависимых ресурсов целиком.
+ * Отказ сервера (4xx) ничего не изменил и кэш не трогает; при ошибке 5xx, неизвестном маршруте
+ * или неразборчивом ответе кэш сбрасывается целиком, как раньше.
+ */
+@Slf4j
+@AllArgsConstructor
+public class CacheInvalidation {
+    private static final String USERS = "users";
+    private static final String ITEMS = "items";
+    private static final String BOOKINGS = "bookings";
+    private static final String REQUESTS = "requests";
+
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+
+    void afterWrite(String resource, String method, String path, String userId, int status, byte[] body) {
+        if (status >= 400 && status < 500) {
+            return;
+        }
+        if (status >= 500 || !evictAffected(method, path, userId, body)) {
+            responseCache.invalidate(resource);
+        }
+    }
+
+    private boolean evictAffected(String method, String path, String userId, byte[] body) {
+        switch (Routes.of(method, path)) {
+            case "POST /users":
+                responseCache.evictPath(USERS, "/users");
+                return true;
+            case "PATCH /users/{id}":
+            case "DELETE /users/{id}":
+                responseCache.evictPath(USERS, "/users");
+                responseCache.evictPath(USERS, path);
+                responseCache.evictAll(ITEMS);
+                responseCache.evictAll(BOOKINGS);
+                responseCache.evictAll(REQUESTS);
+                return true;
+            case "POST /items":
+            case "PATCH /items/{id}": {
+                JsonNode item = read(body);
+                if (item == null) {
+                    return false;
+                }
+                responseCache.evictPath(ITEMS, "/items/" + item.path("id").asLong());
+                responseCache.evictUser(ITEMS, userId);
+                responseCache.evictPath(ITEMS, "/items/search");
+                responseCache.evictPath(ITEMS, "/items/suggest");
+                if (method.equals("PATCH")) {
+                    responseCache.evictAll(BOOKINGS);
+                }
+                long requestId = item.path("requestId").asLong();
+                if (requestId > 0) {
+                    responseCache.evictPath(REQUESTS, "/requests/" + requestId);
+                    responseCache.evictPath(REQUESTS, "/requests");
+                    responseCache.evictPath(REQUESTS, "/requests/all");
+                }
+                return true;
+            }
+            case "POST /items/{id}/comment":
+                responseCache.evictPath(ITEMS, path.substring(0, path.lastIndexOf('/')));
+                responseCache.evictPath(ITEMS, "/items");
+                return true;
+            case "POST /bookings": {
+                JsonNode booking = read(body);
+                if (booking == null) {
+                    return false;
+                }
+                responseCache.evictUser(BOOKINGS, userId);
+                responseCache.evictPath(BOOKINGS, "/bookings/owner");
+                responseCache.evictPath(ITEMS, "/items/" + booking.path("item").path("id").asLong());
+                responseCache.evictPath(ITEMS, "/items");
+                return true;
+            }
+            case "PATCH /bookings/{id}": {
+                JsonNode booking = read(body);
+                if (booking == null) {
+                    return false;
+                }
+                responseCache.evictPath(BOOKINGS, path);
+                responseCache.evictUser(BOOKINGS, userId);
+                responseCache.evictUser(BOOKINGS, booking.path("booker").path("id").asText());
+                responseCache.evictPath(ITEMS, "/items/" + booking.path("item").path("id").asLong());
+                responseCache.evictUser(ITEMS, userId);
+                return true;
+            }
+            case "POST /requests":
+                responseCache.evictUser(REQUESTS, userId);
+                responseCache.evictPath(REQUESTS, "/requests/all");
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private JsonNode read(byte[] body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node != null && node.isObject() ? node : null;
+        } catch (IOException e) {
+            log.warn("Не удалось разобрать ответ shareit-server на запись, кэш сбрасывается целиком: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.cache;
+
+import lombok.Value;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static ru.practicum.constans.Constants.NEXT_CURSOR_HEADER_NAME;
+
+@Value
+public class CachedResponse {
+    int status;
+    String contentType;
+    String nextCursor;
+    byte[] body;
+
+    static CachedResponse of(ContentCachingResponseWrapper wrapper) {
+        return new CachedResponse(wrapper.getStatus(), wrapper.getContentType(),
+                wrapper.getHeader(NEXT_CURSOR_HEADER_NAME), wrapper.getContentAsByteArray());
+    }
+
+    void writeTo(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        if (nextCursor != null) {
+            response.setHeader(NEXT_CURSOR_HEADER_NAME, nextCursor);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.cache;
+
+import lombok.Value;
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+@Value
+public class RequestKey {
+    String method;
+    String path;
+    String query;
+    String userId;
+    String authorization;
+
+    static RequestKey of(HttpServletRequest request) {
+        return new RequestKey(request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                request.getHeader(REQUEST_HEADER_NAME), request.getHeader(HttpHeaders.AUTHORIZATION));
+    }
+
+    static String resourceOf(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
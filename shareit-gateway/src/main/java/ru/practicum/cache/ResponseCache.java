@@ -0,0 +1,93 @@
+package ru.practicum.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Кэши успешных ответов на GET, по одному на ресурс (users, items, bookings, requests).
+ * Записи сбрасываются выборочно — по пути или по пользователю (см. CacheInvalidation) — проходом
+ * по ключам кэша одного ресурса. Целиком, во всех ресурсах, где встречается записанный, кэш сбрасывается
+ * только при записи с неизвестным исходом.
+ * Поколение ресурса растёт при каждом сбросе: ответ, прочитанный до сброса, в кэш не попадёт.
+ */
+public class ResponseCache {
+    private static final Map<String, Set<String>> AFFECTED_RESOURCES = Map.of(
+            "users", Set.of("users", "items", "bookings", "requests"),
+            "items", Set.of("items", "bookings", "requests"),
+            "bookings", Set.of("bookings", "items"),
+            "requests", Set.of("requests"));
+
+    private final Map<String, Cache<RequestKey, CachedResponse>> caches = new HashMap<>();
+    private final Map<String, AtomicLong> generations = new HashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        properties.getTtl().forEach((resource, ttl) -> {
+            Cache<RequestKey, CachedResponse> cache = Caffeine.newBuilder()
+                    .maximumWeight(properties.getMaxSize().toBytes())
+                    .weigher((RequestKey key, CachedResponse response) -> response.getBody().length)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses", "resource", resource);
+            caches.put(resource, cache);
+            generations.put(resource, new AtomicLong());
+        });
+    }
+
+    boolean isCached(String resource) {
+        return caches.containsKey(resource);
+    }
+
+    boolean isInvalidatedBy(String resource) {
+        return AFFECTED_RESOURCES.containsKey(resource);
+    }
+
+    long generation(String resource) {
+        return generations.get(resource).get();
+    }
+
+    CachedResponse get(String resource, RequestKey key) {
+        return caches.get(resource).getIfPresent(key);
+    }
+
+    void put(String resource, RequestKey key, long generation, CachedResponse response) {
+        Cache<RequestKey, CachedResponse> cache = caches.get(resource);
+        cache.put(key, response);
+        if (generations.get(resource).get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    void invalidate(String writtenResource) {
+        AFFECTED_RESOURCES.get(writtenResource).forEach(this::evictAll);
+    }
+
+    void evictAll(String resource) {
+        evict(resource, key -> true);
+    }
+
+    void evictPath(String resource, String path) {
+        evict(resource, key -> path.equals(key.getPath()));
+    }
+
+    void evictUser(String resource, String userId) {
+        evict(resource, key -> Objects.equals(userId, key.getUserId()));
+    }
+
+    private void evict(String resource, Predicate<RequestKey> predicate) {
+        Cache<RequestKey, CachedResponse> cache = caches.get(resource);
+        if (cache != null) {
+            generations.get(resource).incrementAndGet();
+            cache.asMap().keySet().removeIf(predicate);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Кэш ответов гейтвея. Статистика попаданий публикуется в actuator как cache.* с тегом cache=gatewayResponses.
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+@ConditionalOnProperty(name = "shareit-gateway.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        return new ResponseCache(properties, meterRegistry);
+    }
+
+    @Bean
+    public CacheInvalidation cacheInvalidation(ResponseCache responseCache, ObjectMapper objectMapper) {
+        return new CacheInvalidation(responseCache, objectMapper);
+    }
+
+    @Bean
+    public ResponseCacheFilter responseCacheFilter(ResponseCache responseCache, CacheInvalidation cacheInvalidation) {
+        return new ResponseCacheFilter(responseCache, cacheInvalidation);
+    }
+}
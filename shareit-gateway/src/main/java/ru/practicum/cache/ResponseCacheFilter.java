@@ -0,0 +1,76 @@
+package ru.practicum.cache;
+
+import lombok.AllArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+/**
+ * Отдаёт повторные GET из ResponseCache, не обращаясь к shareit-server.
+ * Промах передаётся дальше, в SingleFlightFilter.
+ * Ответ на запись (POST, PUT, PATCH, DELETE) придерживается до сброса затронутых записей кэша
+ * (см. CacheInvalidation), чтобы следующее чтение клиента уже не попало в старую запись.
+ * HEAD и OPTIONS ничего не меняют и кэш не сбрасывают.
+ */
+@AllArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    private static final Set<String> WRITE_METHODS = Set.of(HttpMethod.POST.name(), HttpMethod.PUT.name(),
+            HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final ResponseCache responseCache;
+    private final CacheInvalidation cacheInvalidation;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String resource = RequestKey.resourceOf(request.getRequestURI());
+        if (HttpMethod.GET.matches(request.getMethod()) && responseCache.isCached(resource)) {
+            doGet(resource, request, response, chain);
+        } else if (WRITE_METHODS.contains(request.getMethod()) && responseCache.isInvalidatedBy(resource)) {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            boolean completed = false;
+            try {
+                chain.doFilter(request, wrapper);
+                completed = true;
+            } finally {
+                cacheInvalidation.afterWrite(resource, request.getMethod(), request.getRequestURI(),
+                        request.getHeader(REQUEST_HEADER_NAME),
+                        completed ? wrapper.getStatus() : HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        wrapper.getContentAsByteArray());
+            }
+            wrapper.copyBodyToResponse();
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private void doGet(String resource, HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestKey key = RequestKey.of(request);
+        CachedResponse cached = responseCache.get(resource, key);
+        if (cached != null) {
+            cached.writeTo(response);
+            return;
+        }
+        long generation = responseCache.generation(resource);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpStatus.OK.value()) {
+            responseCache.put(resource, key, generation, CachedResponse.of(wrapper));
+        }
+        wrapper.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Настройки кэша ответов гейтвея: время жизни записи для каждого кэшируемого ресурса
+ * и предельный объём тел ответов в кэше одного ресурса.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-gateway.response-cache")
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+    private Map<String, Duration> ttl = new HashMap<>(Map.of(
+            "users", Duration.ofSeconds(30),
+            "items", Duration.ofSeconds(5),
+            "bookings", Duration.ofSeconds(2),
+            "requests", Duration.ofSeconds(10)));
+}
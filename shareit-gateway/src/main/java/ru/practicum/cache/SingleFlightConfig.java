@@ -0,0 +1,24 @@
+package ru.practicum.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Объединение одинаковых GET. Число объединённых запросов публикуется в actuator
+ * как gateway.single-flight.collapsed, выполненных самостоятельно после ожидания — как gateway.single-flight.fallbacks.
+ */
+@Configuration
+@EnableConfigurationProperties(SingleFlightProperties.class)
+@ConditionalOnProperty(name = "shareit-gateway.single-flight.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlightFilter singleFlightFilter(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlightFilter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Одновременные одинаковые GET (путь, параметры, X-Sharer-User-Id и Authorization) разделяют один вызов shareit-server:
+ * первый запрос выполняется, остальные ждут его ответ не дольше maxWait и получают копию.
+ * Сверх maxInFlight ключей, по истечении ожидания или при сбое первого запроса запрос выполняется сам.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SingleFlightFilter extends OncePerRequestFilter {
+    private final ConcurrentMap<RequestKey, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final SingleFlightProperties properties;
+    private final Counter collapsed;
+    private final Counter fallbacks;
+
+    public SingleFlightFilter(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.collapsed = meterRegistry.counter("gateway.single-flight.collapsed");
+        this.fallbacks = meterRegistry.counter("gateway.single-flight.fallbacks");
+        meterRegistry.gaugeMapSize("gateway.single-flight.in-flight", Tags.empty(), inFlight);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!HttpMethod.GET.matches(request.getMethod())
+                || !properties.getResources().contains(RequestKey.resourceOf(request.getRequestURI()))
+                || inFlight.size() >= properties.getMaxInFlight()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        RequestKey key = RequestKey.of(request);
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            lead(key, flight, request, response, chain);
+        } else {
+            follow(leader, request, response, chain);
+        }
+    }
+
+    private void lead(RequestKey key, CompletableFuture<CachedResponse> flight, HttpServletRequest request,
+                      HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            flight.complete(CachedResponse.of(wrapper));
+        } finally {
+            inFlight.remove(key, flight);
+            flight.complete(null);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void follow(CompletableFuture<CachedResponse> leader, HttpServletRequest request,
+                        HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        CachedResponse shared = await(leader);
+        if (shared == null) {
+            fallbacks.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        collapsed.increment();
+        shared.writeTo(response);
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> leader) {
+        try {
+            return leader.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Настройки объединения одинаковых GET: ресурсы, для которых оно включено,
+ * предел одновременно выполняемых ключей и время ожидания ответа первого запроса.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-gateway.single-flight")
+public class SingleFlightProperties {
+    private boolean enabled = true;
+    private int maxInFlight = 10_000;
+    private Duration maxWait = Duration.ofSeconds(10);
+    private Set<String> resources = new HashSet<>(Set.of("users", "items", "bookings", "requests"));
+}
@@ -0,0 +1,98 @@
+package ru.practicum.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import ru.practicum.exception.ServerOverloadedException;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Лимит одновременных запросов к shareit-server по схеме AIMD. Запрос занимает место в лимите, пока не дочитано
+ * тело ответа, и задержка измеряется до его конца (см. ObservedResponse): тело копируется клиенту потоком
+ * уже после выхода из перехватчиков, и ошибка его чтения тоже считается перегрузкой.
+ * Запрос сверх лимита сразу получает ServerOverloadedException (503),
+ * а не занимает поток Tomcat в ожидании перегруженного сервера.
+ * Лимит снижается не чаще раза за окно: ответы запросов, начатых до последнего снижения, его уже не снижают,
+ * иначе пачка одновременных медленных ответов сразу опустила бы лимит до minLimit.
+ * onSample синхронизирован, потому что лимит и номер снижения меняются вместе; секция короткая и без ввода-вывода.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter implements ClientHttpRequestInterceptor {
+    private final ConcurrencyLimitProperties properties;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+    private volatile long decreases;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.limit = properties.getInitialLimit();
+        this.rejected = meterRegistry.counter("gateway.concurrency.rejected");
+        meterRegistry.gauge("gateway.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("gateway.concurrency.in-flight", inFlight);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        int started = tryAcquire();
+        if (started < 0) {
+            rejected.increment();
+            log.info("Превышен лимит одновременных запросов к shareit-server: {}", getLimit());
+            throw new ServerOverloadedException("Сервер перегружен, повторите запрос позже");
+        }
+        long start = System.nanoTime();
+        long window = decreases;
+        ClientHttpResponse response;
+        int status;
+        try {
+            response = execution.execute(request, body);
+            status = response.getRawStatusCode();
+        } catch (IOException | RuntimeException e) {
+            release(started, window, true);
+            throw e;
+        }
+        return new ObservedResponse(response, failure -> release(started, window, failure != null || status >= 500
+                || System.nanoTime() - start > latencyThresholdNanos));
+    }
+
+    private void release(int inFlightAtStart, long window, boolean congested) {
+        inFlight.decrementAndGet();
+        onSample(inFlightAtStart, window, congested);
+    }
+
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private synchronized void onSample(int inFlightAtStart, long window, boolean congested) {
+        if (congested) {
+            if (window == decreases) {
+                limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+                decreases++;
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(properties.getMaxLimit(), limit + 1);
+        }
+    }
+}
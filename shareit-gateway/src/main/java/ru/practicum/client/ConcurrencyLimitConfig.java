@@ -0,0 +1,31 @@
+package ru.practicum.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Адаптивный лимит подключается ко всем RestTemplate клиентов через RestTemplateBuilder.
+ * Текущий лимит публикуется в actuator как gateway.concurrency.limit, отказы — как gateway.concurrency.rejected.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "shareit-gateway.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplateCustomizer concurrencyLimitCustomizer(AdaptiveConcurrencyLimiter limiter) {
+        return restTemplate -> restTemplate.getInterceptors().add(limiter);
+    }
+}
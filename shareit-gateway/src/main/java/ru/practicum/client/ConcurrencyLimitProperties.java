@@ -0,0 +1,22 @@
+package ru.practicum.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки адаптивного лимита одновременных запросов к shareit-server.
+ * Ответ дольше latencyThreshold, ошибка ввода-вывода или 5xx уменьшают лимит в backoffRatio раз,
+ * остальные ответы при загрузке не меньше половины лимита увеличивают его на единицу.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-gateway.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    private Duration latencyThreshold = Duration.ofMillis(500);
+    private double backoffRatio = 0.9;
+}
@@ -0,0 +1,28 @@
+package ru.practicum.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки общего пула соединений до shareit-server.
+ * Все запросы гейтвея идут на один хост, поэтому лимит на маршрут по умолчанию равен общему лимиту.
+ * readTimeout — верхняя граница ожидания ответа, крайний срок запроса может её сократить.
+ * maxLifeTime и pendingAcquireMaxCount действуют только в реактивном режиме: в блокирующем очередь
+ * за соединением ограничена потоками Tomcat и connectionRequestTimeout.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-server.http-client")
+public class HttpClientProperties {
+    private int maxTotal = 200;
+    private int maxPerRoute = 200;
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration idleEviction = Duration.ofSeconds(30);
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private int pendingAcquireMaxCount = 1000;
+}
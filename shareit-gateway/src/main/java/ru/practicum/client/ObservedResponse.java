@@ -0,0 +1,139 @@
+package ru.practicum.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Ответ shareit-server, исход которого перехватчик узнаёт по чтению тела, а не по возврату из execute:
+ * PassThrough копирует тело клиенту потоком уже после выхода из перехватчиков RestTemplate.
+ * onComplete вызывается один раз — на конце тела, на первой ошибке чтения (с ней) или при закрытии ответа.
+ * Ошибкой считается и исключение гейтвея, которым вложенный ObservedResponse заменил ошибку чтения.
+ * mapError может заменить ошибку чтения исключением гейтвея; null оставляет исходную.
+ */
+public class ObservedResponse implements ClientHttpResponse {
+    private final ClientHttpResponse response;
+    private final Function<IOException, RuntimeException> mapError;
+    private final Consumer<Throwable> onComplete;
+    private InputStream body;
+    private boolean completed;
+
+    public ObservedResponse(ClientHttpResponse response, Function<IOException, RuntimeException> mapError,
+                            Consumer<Throwable> onComplete) {
+        this.response = response;
+        this.mapError = mapError;
+        this.onComplete = onComplete;
+    }
+
+    public ObservedResponse(ClientHttpResponse response, Consumer<Throwable> onComplete) {
+        this(response, e -> null, onComplete);
+    }
+
+    public static ObservedResponse mappingErrors(ClientHttpResponse response,
+                                                 Function<IOException, RuntimeException> mapError) {
+        return new ObservedResponse(response, mapError, failure -> {
+        });
+    }
+
+    @Override
+    public HttpStatus getStatusCode() throws IOException {
+        return response.getStatusCode();
+    }
+
+    @Override
+    public int getRawStatusCode() throws IOException {
+        return response.getRawStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return response.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return response.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+        if (body == null) {
+            try {
+                body = new ObservedBody(response.getBody());
+            } catch (IOException e) {
+                throw failed(e);
+            }
+        }
+        return body;
+    }
+
+    @Override
+    public void close() {
+        try {
+            response.close();
+        } finally {
+            complete(null);
+        }
+    }
+
+    private void complete(Throwable failure) {
+        if (!completed) {
+            completed = true;
+            onComplete.accept(failure);
+        }
+    }
+
+    private IOException failed(IOException e) {
+        RuntimeException mapped = mapError.apply(e);
+        complete(mapped != null ? mapped : e);
+        if (mapped != null) {
+            throw mapped;
+        }
+        return e;
+    }
+
+    private class ObservedBody extends FilterInputStream {
+
+        ObservedBody(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int value = super.read();
+                if (value < 0) {
+                    complete(null);
+                }
+                return value;
+            } catch (IOException e) {
+                throw failed(e);
+            } catch (RuntimeException e) {
+                complete(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            try {
+                int count = super.read(bytes, offset, length);
+                if (count < 0) {
+                    complete(null);
+                }
+                return count;
+            } catch (IOException e) {
+                throw failed(e);
+            } catch (RuntimeException e) {
+                complete(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.client;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import ru.practicum.constans.Constants;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Проксирование ответа shareit-server без разбора JSON: статус, нужные заголовки и тело
+ * копируются в ответ клиенту потоком, без чтения тела в память. Ошибки сервера до копирования превращаются
+ * в HttpStatusCodeException обработчиком ошибок RestTemplate, как и при exchange.
+ * Если чтение тела обрывается (таймаут даёт DeadlineExceededException, см. DeadlineInterceptor),
+ * ещё не отправленный клиенту ответ сбрасывается, чтобы обработчик ошибок записал свой статус;
+ * если начало уже ушло клиенту, ошибка обрывает соединение и клиент получает неполное тело.
+ */
+@UtilityClass
+public class PassThrough {
+    private static final List<String> FORWARDED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, Constants.NEXT_CURSOR_HEADER_NAME);
+
+    public RequestCallback headersOf(HttpEntity<?> httpEntity) {
+        return request -> request.getHeaders().putAll(httpEntity.getHeaders());
+    }
+
+    public ResponseExtractor<Void> to(HttpServletResponse response) {
+        return serverResponse -> {
+            response.setStatus(serverResponse.getRawStatusCode());
+            for (String header : FORWARDED_HEADERS) {
+                String value = serverResponse.getHeaders().getFirst(header);
+                if (value != null) {
+                    response.setHeader(header, value);
+                }
+            }
+            try {
+                StreamUtils.copy(serverResponse.getBody(), response.getOutputStream());
+            } catch (IOException | RuntimeException e) {
+                if (!response.isCommitted()) {
+                    response.reset();
+                }
+                throw e;
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package ru.practicum.client;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.exception.ServerOverloadedException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Реактивный режим гейтвея: сервер Netty и пул соединений Reactor Netty для WebClient.
+ * Ожидающие соединения запросы не занимают потоков, поэтому без ограничения очередь за соединением росла бы
+ * вместе с нагрузкой. Она ограничена pendingAcquireMaxCount и connectionRequestTimeout, а переполнение очереди
+ * или истёкшее ожидание отдаётся клиенту как 503, как и отказ адаптивного лимита в блокирующем режиме.
+ * Соединение закрывается после keepAlive простоя и в любом случае после maxLifeTime.
+ * Статистика пула публикуется как reactor.netty.connection.provider.* с тегом name=shareit-server.
+ * Фильтры и перехватчики блокирующего режима здесь не подключаются; включённые в настройках перечисляются
+ * в предупреждении при старте, чтобы их отсутствие не проходило незамеченным.
+ */
+@Slf4j
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class ReactiveClientConfig {
+    /**
+     * Возможности только блокирующего режима и свойство, которым они включены (null — включены всегда).
+     */
+    private static final Map<String, String> SERVLET_ONLY_FEATURES = new LinkedHashMap<>();
+
+    static {
+        SERVLET_ONLY_FEATURES.put("кэш ответов", "shareit-gateway.response-cache.enabled");
+        SERVLET_ONLY_FEATURES.put("объединение одинаковых GET", "shareit-gateway.single-flight.enabled");
+        SERVLET_ONLY_FEATURES.put("ограничение частоты запросов", "shareit-gateway.rate-limit.enabled");
+        SERVLET_ONLY_FEATURES.put("адаптивный лимит запросов к серверу", "shareit-gateway.concurrency-limit.enabled");
+        SERVLET_ONLY_FEATURES.put("крайние сроки запросов", "shareit-gateway.deadline.enabled");
+        SERVLET_ONLY_FEATURES.put("bulkhead и circuit breaker", null);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder("shareit-server")
+                .maxConnections(properties.getMaxTotal())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getKeepAlive())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getIdleEviction())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * С обоими стартерами в classpath Spring Boot поднимает реактивное приложение на Tomcat;
+     * реактивному режиму нужен Netty с небольшим числом потоков цикла событий.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public WebClientCustomizer connectionPoolCustomizer(ConnectionProvider connectionProvider,
+                                                        HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter((request, next) -> next.exchange(request)
+                        .onErrorMap(ReactiveClientConfig::isPoolExhausted,
+                                e -> new ServerOverloadedException("Нет свободных соединений с сервером")));
+    }
+
+    @Bean
+    public SmartInitializingSingleton servletOnlyFeaturesWarning(Environment environment) {
+        return () -> {
+            List<String> ignored = servletOnlyFeatures(environment);
+            if (!ignored.isEmpty()) {
+                log.warn("В реактивном режиме гейтвея не действуют: {}. Они работают только в блокирующем режиме",
+                        String.join(", ", ignored));
+            }
+        };
+    }
+
+    static List<String> servletOnlyFeatures(Environment environment) {
+        return SERVLET_ONLY_FEATURES.entrySet().stream()
+                .filter(feature -> feature.getValue() == null
+                        || environment.getProperty(feature.getValue(), Boolean.class, true))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Ошибки пула Reactor Netty лежат во внутреннем перепакованном пакете reactor.netty.internal,
+     * который может измениться в любом патч-релизе, поэтому на них нет ссылок по типу.
+     * Истёкшее ожидание соединения — единственная java.util.concurrent.TimeoutException на этапе запроса
+     * (таймауты соединения и ответа приходят исключениями Netty), а переполнение очереди узнаётся по имени класса.
+     */
+    private static boolean isPoolExhausted(Throwable e) {
+        Throwable cause = e instanceof WebClientRequestException ? e.getCause() : e;
+        return cause instanceof TimeoutException
+                || cause != null && "PoolAcquirePendingLimitException".equals(cause.getClass().getSimpleName());
+    }
+}
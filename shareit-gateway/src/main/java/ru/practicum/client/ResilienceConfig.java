@@ -0,0 +1,30 @@
+package ru.practicum.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Bulkhead и circuit breaker на каждый клиент. Перехватчик стоит первым, перед DeadlineInterceptor
+ * и адаптивным лимитом, поэтому breaker считает ошибками и таймауты, и срок, истёкший до отправки запроса,
+ * а отказы лимита не считает.
+ * Состояние breaker'ов доступно в actuator: /actuator/circuitbreakers, /actuator/bulkheads, /actuator/health
+ * и метрики resilience4j.circuitbreaker.*, resilience4j.bulkhead.*.
+ */
+@Configuration
+@Profile("!reactive")
+public class ResilienceConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public RestTemplateCustomizer resilienceCustomizer(CircuitBreakerRegistry circuitBreakerRegistry,
+                                                      BulkheadRegistry bulkheadRegistry) {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor(circuitBreakerRegistry, bulkheadRegistry);
+        return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+    }
+}
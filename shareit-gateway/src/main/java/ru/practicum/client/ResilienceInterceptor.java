@@ -0,0 +1,74 @@
+package ru.practicum.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+import ru.practicum.exception.DeadlineExceededException;
+
+import java.io.IOException;
+
+/**
+ * Bulkhead и circuit breaker Resilience4j для каждого клиента гейтвея. Экземпляр выбирается по первому
+ * сегменту пути запроса к shareit-server (bookings, items, users, requests), то есть по клиенту;
+ * прочие пути делят экземпляр "other".
+ * Bulkhead без ожидания не даёт медленному клиенту занять больше maxConcurrentCalls потоков Tomcat.
+ * Breaker учитывает ошибки ввода-вывода, истёкший крайний срок, ответы 5xx и медленные ответы.
+ * Место в bulkhead освобождается, а исход для breaker фиксируется, когда дочитано тело ответа (см. ObservedResponse):
+ * таймаут посреди тела, которое PassThrough копирует клиенту, тоже считается ошибкой.
+ */
+@AllArgsConstructor
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String client = Routes.clientOf(request.getURI().getPath());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(client);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(client);
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            throw e;
+        }
+        long start = circuitBreaker.getCurrentTimestamp();
+        ClientHttpResponse response;
+        int status;
+        try {
+            response = execution.execute(request, body);
+            status = response.getRawStatusCode();
+        } catch (IOException | DeadlineExceededException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            bulkhead.onComplete();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            bulkhead.onComplete();
+            throw e;
+        }
+        return new ObservedResponse(response, failure -> {
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            if (failure != null) {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), failure);
+            } else if (status >= 500) {
+                HttpStatus httpStatus = HttpStatus.resolve(status);
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), new HttpServerErrorException(
+                        httpStatus != null ? httpStatus : HttpStatus.INTERNAL_SERVER_ERROR));
+            } else {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            }
+            bulkhead.onComplete();
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.client;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Маршрут запроса для лимитов и метрик: метод и шаблон пути гейтвея, в котором числовые сегменты
+ * заменены на {id}, например "POST /bookings" или "GET /items/{id}". Путь, не совпавший ни с одним
+ * маршрутом гейтвея, даёт "other", поэтому число тегов метрик и ключей лимитов ограничено
+ * списком ниже, а не тем, что прислал клиент.
+ */
+@UtilityClass
+public class Routes {
+    public static final String OTHER = "other";
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final Set<String> CLIENTS = Set.of("users", "items", "bookings", "requests");
+    private static final Set<String> ROUTES = Set.of(
+            "POST /users", "GET /users", "GET /users/{id}", "PATCH /users/{id}", "DELETE /users/{id}",
+            "POST /items", "GET /items", "GET /items/{id}", "PATCH /items/{id}",
+            "GET /items/search", "GET /items/suggest", "POST /items/{id}/comment",
+            "POST /bookings", "GET /bookings", "GET /bookings/owner", "GET /bookings/{id}", "PATCH /bookings/{id}",
+            "POST /requests", "GET /requests", "GET /requests/all", "GET /requests/{id}");
+
+    public String of(String method, String path) {
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        String route = method.toUpperCase(Locale.ROOT) + " " + ID_SEGMENT.matcher(path).replaceAll("/{id}");
+        return ROUTES.contains(route) ? route : OTHER;
+    }
+
+    /**
+     * Маршрут правила из настроек. Опечатка в правиле иначе молча превратила бы его в правило для "other".
+     */
+    public String ofRule(String method, String path) {
+        String route = of(method, path);
+        if (OTHER.equals(route)) {
+            throw new IllegalArgumentException("Неизвестный маршрут в настройках гейтвея: " + method + " " + path);
+        }
+        return route;
+    }
+
+    /**
+     * Клиент гейтвея по первому сегменту пути (users, items, bookings, requests) или "other".
+     */
+    public String clientOf(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        String client = end < 0 ? path.substring(start) : path.substring(start, end);
+        return CLIENTS.contains(client) ? client : OTHER;
+    }
+}
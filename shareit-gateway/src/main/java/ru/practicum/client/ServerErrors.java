@@ -0,0 +1,21 @@
+package ru.practicum.client;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import ru.practicum.exception.DataNotFound;
+
+/**
+ * Перевод ошибок shareit-server в исключения гейтвея для реактивных клиентов,
+ * как это делают блокирующие клиенты: 400 — IllegalArgumentException, остальное — DataNotFound.
+ */
+@UtilityClass
+public class ServerErrors {
+
+    public RuntimeException badRequestOrNotFound(WebClientResponseException e) {
+        if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+            return new IllegalArgumentException(e.getMessage());
+        }
+        return new DataNotFound(e.getMessage());
+    }
+}
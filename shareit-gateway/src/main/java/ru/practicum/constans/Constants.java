@@ -5,4 +5,6 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class Constants {
     public static final String REQUEST_HEADER_NAME = "X-Sharer-User-Id";
+    public static final String NEXT_CURSOR_HEADER_NAME = "X-Next-Cursor";
+    public static final String DEADLINE_HEADER_NAME = "X-Request-Deadline-Ms";
 }
@@ -0,0 +1,29 @@
+package ru.practicum.deadline;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+
+/**
+ * Крайний срок обработки текущего запроса гейтвея, общий для всех вызовов shareit-server в нём.
+ */
+@UtilityClass
+public class Deadline {
+    private final ThreadLocal<Long> deadlineNanos = new ThreadLocal<>();
+
+    void start(Duration budget) {
+        deadlineNanos.set(System.nanoTime() + budget.toNanos());
+    }
+
+    void clear() {
+        deadlineNanos.remove();
+    }
+
+    /**
+     * @return сколько миллисекунд осталось до крайнего срока или null, если срок не задан
+     */
+    public Long remainingMillis() {
+        Long deadline = deadlineNanos.get();
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.deadline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Крайние сроки запросов. DeadlineInterceptor стоит внутри breaker'а (см. ResilienceConfig), чтобы тот считал
+ * истёкшие сроки ошибками, и снаружи адаптивного лимита, чтобы лимит видел таймауты как перегрузку сервера.
+ */
+@Configuration
+@EnableConfigurationProperties(DeadlineProperties.class)
+@ConditionalOnProperty(name = "shareit-gateway.deadline.enabled", havingValue = "true", matchIfMissing = true)
+@Profile("!reactive")
+public class DeadlineConfig {
+
+    @Bean
+    public DeadlineFilter deadlineFilter(DeadlineProperties properties) {
+        return new DeadlineFilter(properties);
+    }
+
+    @Bean
+    @Order(0)
+    public RestTemplateCustomizer deadlineCustomizer(MeterRegistry meterRegistry) {
+        DeadlineInterceptor interceptor = new DeadlineInterceptor(meterRegistry);
+        return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.deadline;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.client.Routes;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Назначает запросу крайний срок по бюджету его маршрута. Срок отсчитывается до всех остальных фильтров гейтвея.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
+public class DeadlineFilter extends OncePerRequestFilter {
+    private final Duration defaultBudget;
+    private final Map<String, Duration> budgets = new HashMap<>();
+
+    public DeadlineFilter(DeadlineProperties properties) {
+        this.defaultBudget = properties.getDefaultBudget();
+        for (DeadlineProperties.Rule rule : properties.getRules()) {
+            budgets.put(Routes.ofRule(rule.getMethod(), rule.getPath()), rule.getBudget());
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String route = Routes.of(request.getMethod(), request.getRequestURI());
+        Deadline.start(budgets.getOrDefault(route, defaultBudget));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.deadline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import ru.practicum.client.ObservedResponse;
+import ru.practicum.client.Routes;
+import ru.practicum.exception.DeadlineExceededException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import static ru.practicum.constans.Constants.DEADLINE_HEADER_NAME;
+
+/**
+ * Передаёт shareit-server оставшееся до крайнего срока время в заголовке X-Request-Deadline-Ms
+ * и не отправляет запрос, если срок уже истёк. Истёкший срок и таймауты соединения и чтения
+ * превращаются в DeadlineExceededException (504) и считаются в gateway.deadline.exceeded по маршруту,
+ * в том числе таймаут при чтении тела, которое PassThrough копирует клиенту уже после перехватчиков.
+ * Тег route — шаблон из Routes или "other", а не сырой путь, поэтому число серий метрики ограничено.
+ */
+@Slf4j
+@AllArgsConstructor
+public class DeadlineInterceptor implements ClientHttpRequestInterceptor {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String route = Routes.of(request.getMethodValue(), request.getURI().getPath());
+        Long remainingMillis = Deadline.remainingMillis();
+        if (remainingMillis != null) {
+            if (remainingMillis <= 0) {
+                throw exceeded(route);
+            }
+            request.getHeaders().set(DEADLINE_HEADER_NAME, String.valueOf(remainingMillis));
+        }
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (InterruptedIOException e) {
+            throw exceeded(route);
+        }
+        return ObservedResponse.mappingErrors(response,
+                e -> e instanceof InterruptedIOException ? exceeded(route) : null);
+    }
+
+    private DeadlineExceededException exceeded(String route) {
+        log.info("Истекло время на запрос {} к shareit-server", route);
+        meterRegistry.counter("gateway.deadline.exceeded", "route", route).increment();
+        return new DeadlineExceededException("Истекло время ожидания ответа shareit-server");
+    }
+}
@@ -0,0 +1,27 @@
+package ru.practicum.deadline;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Время на обработку запроса гейтвеем для каждого маршрута (см. Routes);
+ * маршруты без своего правила получают defaultBudget.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-gateway.deadline")
+public class DeadlineProperties {
+    private boolean enabled = true;
+    private Duration defaultBudget = Duration.ofSeconds(5);
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String method;
+        private String path;
+        private Duration budget;
+    }
+}
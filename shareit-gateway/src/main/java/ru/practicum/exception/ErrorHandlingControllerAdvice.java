@@ -1,6 +1,10 @@
 package ru.practicum.exception;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,6 +22,7 @@ import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
+@Profile("!reactive")
 public class ErrorHandlingControllerAdvice {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -46,6 +51,29 @@ public class ErrorHandlingControllerAdvice {
         return new Violation(e.getMessage());
     }
 
+    @ExceptionHandler(ServerOverloadedException.class)
+    public ResponseEntity<Violation> onServerOverloadedException(ServerOverloadedException e) {
+        log.info("Получен статус 503 Service Unavailable {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new Violation(e.getMessage()));
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<Violation> onClientUnavailable(RuntimeException e) {
+        log.info("Получен статус 503 Service Unavailable {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new Violation("Сервер временно недоступен, повторите запрос позже"));
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public Violation onDeadlineExceededException(DeadlineExceededException e) {
+        log.info("Получен статус 504 Gateway Timeout {}", e.getMessage());
+        return new Violation(e.getMessage());
+    }
+
     @ExceptionHandler(UndeclaredThrowableException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Violation bookingStatusNotFoundOnTransactional(UndeclaredThrowableException e) {
@@ -0,0 +1,49 @@
+package ru.practicum.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Те же ответы об ошибках, что и в ErrorHandlingControllerAdvice, для исключений WebFlux:
+ * ошибки валидации тела и отсутствующие параметры запроса приходят другими типами.
+ * Прочие ошибки разбора запроса (неверный тип параметра, нет заголовка) отдаются как 400, а не 500.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+@Slf4j
+public class ReactiveErrorHandlingControllerAdvice extends ErrorHandlingControllerAdvice {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ValidationErrorResponse onWebExchangeBindException(WebExchangeBindException e) {
+        log.info("Получен статус 400 Bad Request {}", e.getMessage(), e);
+        final List<Violation> violations = e.getFieldErrors().stream()
+                .map(error -> new Violation(error.getDefaultMessage()))
+                .collect(Collectors.toList());
+        return new ValidationErrorResponse(violations);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Object> onServerWebInputException(ServerWebInputException e) {
+        log.info("Некорректные параметры запроса {}", e.getMessage(), e);
+        MethodParameter parameter = e.getMethodParameter();
+        boolean missingParameter = parameter != null && parameter.hasParameterAnnotation(RequestParam.class)
+                && e.getCause() == null;
+        if (!missingParameter || "approved".equals(parameter.getParameterName())) {
+            return new ResponseEntity<>(new Violation(e.getReason()), HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(List.of(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.exception;
+
+public class ServerOverloadedException extends RuntimeException {
+
+    public ServerOverloadedException(String message) {
+        super(message);
+    }
+}
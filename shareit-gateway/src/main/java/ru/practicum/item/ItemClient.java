@@ -2,35 +2,43 @@ package ru.practicum.item;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.client.PassThrough;
 import ru.practicum.comment.dto.CommentDto;
 import ru.practicum.exception.DataNotFound;
 import ru.practicum.item.dto.ItemDto;
 import ru.practicum.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.item.dto.ItemSearchResultDto;
 
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletResponse;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
 
 @Component
+@Profile("!reactive")
 public class ItemClient {
     private static final String API_PREFIX = "/items";
     private RestTemplate restTemplate;
 
 
-    public ItemClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory) {
         this.restTemplate = builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .requestFactory(() -> requestFactory)
                 .build();
     }
 
@@ -57,14 +65,62 @@ public class ItemClient {
         }
     }
 
-    public List<ItemDtoWithBookingAndComments> getAllItemByOwner(long userId) {
+    public void getAllItemByOwner(long userId, int from, int size, HttpServletResponse response) {
         HttpEntity<ItemDto> entityReq = getHttpEntity(userId, null);
-        return restTemplate.exchange("", HttpMethod.GET, entityReq, List.class).getBody();
+        try {
+            restTemplate.execute("?from=" + from + "&size=" + size, HttpMethod.GET,
+                    PassThrough.headersOf(entityReq), PassThrough.to(response));
+        } catch (HttpStatusCodeException e) {
+            if (e.getMessage().contains("400")) throw new IllegalArgumentException(e.getMessage());
+            throw new DataNotFound(e.getMessage());
+        }
     }
 
-    public List<ItemDto> search(String text) {
+    public void search(String text, String tag, int from, int size, boolean fuzzy, HttpServletResponse response) {
         HttpEntity<ItemDto> entityReq = getHttpEntity(0, null);
-        return restTemplate.exchange("/search?text=" + text, HttpMethod.GET, entityReq, List.class).getBody();
+        try {
+            restTemplate.execute("/search?" + searchParameters(tag), HttpMethod.GET,
+                    PassThrough.headersOf(entityReq), PassThrough.to(response), searchVariables(text, tag, from, size, fuzzy));
+        } catch (HttpStatusCodeException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
+    public ItemSearchResultDto searchWithFacets(String text, String tag, int from, int size, boolean fuzzy) {
+        HttpEntity<ItemDto> entityReq = getHttpEntity(0, null);
+        try {
+            return restTemplate.exchange("/search?facets=true&" + searchParameters(tag), HttpMethod.GET, entityReq,
+                    ItemSearchResultDto.class, searchVariables(text, tag, from, size, fuzzy)).getBody();
+        } catch (HttpStatusCodeException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
+    private String searchParameters(String tag) {
+        String parameters = "text={text}&from={from}&size={size}&fuzzy={fuzzy}";
+        return tag == null ? parameters : parameters + "&tag={tag}";
+    }
+
+    private Map<String, Object> searchVariables(String text, String tag, int from, int size, boolean fuzzy) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("text", text);
+        variables.put("from", from);
+        variables.put("size", size);
+        variables.put("fuzzy", fuzzy);
+        if (tag != null) {
+            variables.put("tag", tag);
+        }
+        return variables;
+    }
+
+    public void suggest(String prefix, int size, HttpServletResponse response) {
+        HttpEntity<ItemDto> entityReq = getHttpEntity(0, null);
+        try {
+            restTemplate.execute("/suggest?prefix={prefix}&size={size}", HttpMethod.GET,
+                    PassThrough.headersOf(entityReq), PassThrough.to(response), prefix, size);
+        } catch (HttpStatusCodeException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
     }
 
     public CommentDto createComment(long userId, long itemId, CommentDto commentDto) {
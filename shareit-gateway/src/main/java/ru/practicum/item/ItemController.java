@@ -2,14 +2,16 @@ package ru.practicum.item;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.comment.dto.CommentDto;
 import ru.practicum.exception.Marker;
 import ru.practicum.item.dto.ItemDto;
 import ru.practicum.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.item.dto.ItemSearchResultDto;
 
-import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 
 import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
 
@@ -19,6 +21,7 @@ import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
 @Validated
 @AllArgsConstructor
 @RequestMapping("/items")
+@Profile("!reactive")
 public class ItemController {
     private ItemClient itemClient;
 
@@ -33,7 +36,7 @@ public class ItemController {
     @PatchMapping("/{id}")
     public ItemDto updateItem(@RequestHeader(REQUEST_HEADER_NAME) long userId,
                               @PathVariable long id,
-                              @RequestBody ItemDto item) {
+                              @Validated(Marker.OnUpdate.class) @RequestBody ItemDto item) {
         log.info("Выполняется запрос обновления вещи под ID: {} пользователя под ID: {}", id, userId);
         return itemClient.updateItem(userId, id, item);
     }
@@ -46,15 +49,41 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemDtoWithBookingAndComments> getAllItemByOwner(@RequestHeader(REQUEST_HEADER_NAME) long userId) {
+    public void getAllItemByOwner(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                  @RequestParam(defaultValue = "0") int from,
+                                  @RequestParam(defaultValue = "10") int size,
+                                  HttpServletResponse response) {
         log.info("Выполняется запрос получения всех вещей пользователя под ID: {}", userId);
-        return itemClient.getAllItemByOwner(userId);
+        itemClient.getAllItemByOwner(userId, from, size, response);
     }
 
     @GetMapping("/search")
-    public List<ItemDto> searchByNameAndDescription(@RequestParam String text) {
-        log.info("Выполняется запрос поиска по имени и описанию. Текст запроса: {}", text);
-        return itemClient.search(text);
+    public void searchByNameAndDescription(@RequestParam(defaultValue = "") String text,
+                                           @RequestParam(required = false) String tag,
+                                           @RequestParam(defaultValue = "0") int from,
+                                           @RequestParam(defaultValue = "10") int size,
+                                           @RequestParam(defaultValue = "false") boolean fuzzy,
+                                           HttpServletResponse response) {
+        log.info("Выполняется запрос поиска по имени и описанию. Текст запроса: {}, категория: {}", text, tag);
+        itemClient.search(text, tag, from, size, fuzzy, response);
+    }
+
+    @GetMapping(value = "/search", params = "facets=true")
+    public ItemSearchResultDto searchWithFacets(@RequestParam(defaultValue = "") String text,
+                                                @RequestParam(required = false) String tag,
+                                                @RequestParam(defaultValue = "0") int from,
+                                                @RequestParam(defaultValue = "10") int size,
+                                                @RequestParam(defaultValue = "false") boolean fuzzy) {
+        log.info("Выполняется запрос поиска со счётчиками категорий. Текст запроса: {}, категория: {}", text, tag);
+        return itemClient.searchWithFacets(text, tag, from, size, fuzzy);
+    }
+
+    @GetMapping("/suggest")
+    public void suggest(@RequestParam String prefix,
+                        @RequestParam(defaultValue = "10") int size,
+                        HttpServletResponse response) {
+        log.info("Выполняется запрос подсказок по префиксу: {}", prefix);
+        itemClient.suggest(prefix, size, response);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,117 @@
+package ru.practicum.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.client.ServerErrors;
+import ru.practicum.comment.dto.CommentDto;
+import ru.practicum.item.dto.ItemDto;
+import ru.practicum.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.item.dto.ItemSearchResultDto;
+
+import javax.persistence.EntityNotFoundException;
+import java.net.URI;
+import java.util.List;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+@Component
+@Profile("reactive")
+public class ReactiveItemClient {
+    private static final String API_PREFIX = "/items";
+    private static final ParameterizedTypeReference<List<String>> STRING_LIST_TYPE = new ParameterizedTypeReference<>() {
+    };
+    private final WebClient webClient;
+
+    public ReactiveItemClient(@Value("${shareIt-server.url}") String serverUrl, WebClient.Builder builder) {
+        this.webClient = builder.baseUrl(serverUrl + API_PREFIX).build();
+    }
+
+    public Mono<ItemDto> create(long userId, ItemDto item) {
+        return webClient.post()
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .bodyValue(item)
+                .retrieve()
+                .bodyToMono(ItemDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new EntityNotFoundException(e.getMessage()));
+    }
+
+    public Mono<ItemDto> updateItem(long userId, long id, ItemDto item) {
+        return webClient.patch().uri("/{id}", id)
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .bodyValue(item)
+                .retrieve()
+                .bodyToMono(ItemDto.class);
+    }
+
+    public Mono<ItemDtoWithBookingAndComments> getItemById(long userId, long itemId) {
+        return webClient.get().uri("/{id}", itemId)
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToMono(ItemDtoWithBookingAndComments.class)
+                .onErrorMap(WebClientResponseException.class, e -> new EntityNotFoundException(e.getMessage()));
+    }
+
+    public Flux<ItemDtoWithBookingAndComments> getAllItemByOwner(long userId, int from, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.queryParam("from", from).queryParam("size", size).build())
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToFlux(ItemDtoWithBookingAndComments.class)
+                .onErrorMap(WebClientResponseException.class, ServerErrors::badRequestOrNotFound);
+    }
+
+    public Flux<ItemDto> search(String text, String tag, int from, int size, boolean fuzzy) {
+        return webClient.get()
+                .uri(uriBuilder -> searchUri(uriBuilder, text, tag, from, size, fuzzy))
+                .retrieve()
+                .bodyToFlux(ItemDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new IllegalArgumentException(e.getMessage()));
+    }
+
+    public Mono<ItemSearchResultDto> searchWithFacets(String text, String tag, int from, int size, boolean fuzzy) {
+        return webClient.get()
+                .uri(uriBuilder -> searchUri(uriBuilder.queryParam("facets", true), text, tag, from, size, fuzzy))
+                .retrieve()
+                .bodyToMono(ItemSearchResultDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new IllegalArgumentException(e.getMessage()));
+    }
+
+    public Mono<List<String>> suggest(String prefix, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/suggest")
+                        .queryParam("prefix", "{prefix}")
+                        .queryParam("size", size)
+                        .build(prefix))
+                .retrieve()
+                .bodyToMono(STRING_LIST_TYPE)
+                .onErrorMap(WebClientResponseException.class, e -> new IllegalArgumentException(e.getMessage()));
+    }
+
+    public Mono<CommentDto> createComment(long userId, long itemId, CommentDto commentDto) {
+        return webClient.post().uri("/{id}/comment", itemId)
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .bodyValue(commentDto)
+                .retrieve()
+                .bodyToMono(CommentDto.class)
+                .onErrorMap(WebClientResponseException.class, ServerErrors::badRequestOrNotFound);
+    }
+
+    private URI searchUri(UriBuilder uriBuilder, String text, String tag, int from, int size, boolean fuzzy) {
+        uriBuilder.path("/search")
+                .queryParam("text", "{text}")
+                .queryParam("from", from)
+                .queryParam("size", size)
+                .queryParam("fuzzy", fuzzy);
+        if (tag == null) {
+            return uriBuilder.build(text);
+        }
+        return uriBuilder.queryParam("tag", "{tag}").build(text, tag);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.practicum.item;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.comment.dto.CommentDto;
+import ru.practicum.exception.Marker;
+import ru.practicum.item.dto.ItemDto;
+import ru.practicum.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.item.dto.ItemSearchResultDto;
+
+import java.util.List;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+
+@Slf4j
+@RestController
+@Validated
+@AllArgsConstructor
+@RequestMapping("/items")
+@Profile("reactive")
+public class ReactiveItemController {
+    private ReactiveItemClient itemClient;
+
+
+    @PostMapping
+    public Mono<ItemDto> createItem(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                    @Validated(Marker.OnCreate.class) @RequestBody ItemDto item) {
+        log.info("Выполняется запрос создания вещи");
+        return itemClient.create(userId, item);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ItemDto> updateItem(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                    @PathVariable long id,
+                                    @Validated(Marker.OnUpdate.class) @RequestBody ItemDto item) {
+        log.info("Выполняется запрос обновления вещи под ID: {} пользователя под ID: {}", id, userId);
+        return itemClient.updateItem(userId, id, item);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ItemDtoWithBookingAndComments> getItemById(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                                           @PathVariable long itemId) {
+        log.info("Выполняется запрос получения информации вещи по ID: {}, от пользователя: {}", itemId, userId);
+        return itemClient.getItemById(userId, itemId);
+    }
+
+    @GetMapping
+    public Flux<ItemDtoWithBookingAndComments> getAllItemByOwner(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                                                 @RequestParam(defaultValue = "0") int from,
+                                                                 @RequestParam(defaultValue = "10") int size) {
+        log.info("Выполняется запрос получения всех вещей пользователя под ID: {}", userId);
+        return itemClient.getAllItemByOwner(userId, from, size);
+    }
+
+    @GetMapping("/search")
+    public Flux<ItemDto> searchByNameAndDescription(@RequestParam(defaultValue = "") String text,
+                                                    @RequestParam(required = false) String tag,
+                                                    @RequestParam(defaultValue = "0") int from,
+                                                    @RequestParam(defaultValue = "10") int size,
+                                                    @RequestParam(defaultValue = "false") boolean fuzzy) {
+        log.info("Выполняется запрос поиска по имени и описанию. Текст запроса: {}, категория: {}", text, tag);
+        return itemClient.search(text, tag, from, size, fuzzy);
+    }
+
+    @GetMapping(value = "/search", params = "facets=true")
+    public Mono<ItemSearchResultDto> searchWithFacets(@RequestParam(defaultValue = "") String text,
+                                                      @RequestParam(required = false) String tag,
+                                                      @RequestParam(defaultValue = "0") int from,
+                                                      @RequestParam(defaultValue = "10") int size,
+                                                      @RequestParam(defaultValue = "false") boolean fuzzy) {
+        log.info("Выполняется запрос поиска со счётчиками категорий. Текст запроса: {}, категория: {}", text, tag);
+        return itemClient.searchWithFacets(text, tag, from, size, fuzzy);
+    }
+
+    @GetMapping("/suggest")
+    public Mono<List<String>> suggest(@RequestParam String prefix,
+                                      @RequestParam(defaultValue = "10") int size) {
+        log.info("Выполняется запрос подсказок по префиксу: {}", prefix);
+        return itemClient.suggest(prefix, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<CommentDto> createComment(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                          @PathVariable long itemId,
+                                          @Validated(Marker.OnCreate.class) @RequestBody CommentDto commentDto) {
+        log.info("Выполняется запрос создания отзыва для вещи под ID: {}, от пользователя: {}", itemId, userId);
+        return itemClient.createComment(userId, itemId, commentDto);
+    }
+}
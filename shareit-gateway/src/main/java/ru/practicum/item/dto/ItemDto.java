@@ -1,5 +1,6 @@
 package ru.practicum.item.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,6 +9,8 @@ import ru.practicum.exception.Marker;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.util.Set;
 
 
 @Builder
@@ -23,4 +26,7 @@ public class ItemDto {
     @NotNull(groups = Marker.OnCreate.class)
     private Boolean available;
     private long requestId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Set<@NotBlank(groups = {Marker.OnCreate.class, Marker.OnUpdate.class})
+            @Size(max = 55, groups = {Marker.OnCreate.class, Marker.OnUpdate.class}) String> tags;
 }
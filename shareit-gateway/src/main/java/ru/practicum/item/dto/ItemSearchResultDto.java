@@ -0,0 +1,14 @@
+package ru.practicum.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ItemSearchResultDto {
+    private List<ItemDto> items;
+    private Map<String, Integer> facets;
+}
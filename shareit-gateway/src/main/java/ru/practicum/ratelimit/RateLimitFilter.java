@@ -0,0 +1,92 @@
+package ru.practicum.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.client.Routes;
+import ru.practicum.exception.Violation;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+/**
+ * Ограничивает частоту запросов каждого пользователя к каждому маршруту до обращения к shareit-server.
+ * Неизвестные пути одного пользователя делят корзину маршрута "other" (см. Routes).
+ * Запрос сверх лимита получает 429 с Retry-After. Запросы без X-Sharer-User-Id считаются по адресу клиента.
+ * Корзины хранятся в Caffeine и удаляются после idleTimeout без запросов — к этому времени они и так полны.
+ */
+@Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimitProperties properties;
+    private final Map<String, RateLimitProperties.Rule> rules = new HashMap<>();
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.properties = properties;
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            rules.put(Routes.ofRule(rule.getMethod(), rule.getPath()), rule);
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String route = Routes.of(request.getMethod(), request.getRequestURI());
+        String userId = request.getHeader(REQUEST_HEADER_NAME);
+        String client = userId != null ? userId : request.getRemoteAddr();
+        long waitNanos = buckets.get(new BucketKey(client, route), key -> newBucket(route)).tryAcquire();
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        log.info("Превышен лимит запросов к {} для {}", route, client);
+        meterRegistry.counter("gateway.rate-limit.rejected", "route", route).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new Violation("Превышен лимит запросов, повторите через "
+                + retryAfterSeconds + " с"));
+    }
+
+    private TokenBucket newBucket(String route) {
+        RateLimitProperties.Rule rule = rules.get(route);
+        if (rule != null) {
+            return new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond());
+        }
+        RateLimitProperties.Limit limit = properties.getDefaultLimit();
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond());
+    }
+
+    @Value
+    private static class BucketKey {
+        String client;
+        String route;
+    }
+}
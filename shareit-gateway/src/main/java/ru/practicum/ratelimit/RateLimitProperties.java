@@ -0,0 +1,36 @@
+package ru.practicum.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Лимиты запросов на пользователя и маршрут (см. Routes).
+ * Маршруты без своего правила получают лимит по умолчанию.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Limit defaultLimit = new Limit();
+    private List<Rule> rules = new ArrayList<>();
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private long maxBuckets = 100_000;
+
+    @Data
+    public static class Limit {
+        private int capacity = 100;
+        private double refillPerSecond = 50;
+    }
+
+    @Data
+    public static class Rule {
+        private String method;
+        private String path;
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Корзина токенов в форме GCRA: вместо числа токенов хранится момент, когда корзина опустеет
+ * при текущем расходе. Запрос сдвигает этот момент на стоимость одного токена через compareAndSet,
+ * поэтому потоки не блокируют друг друга.
+ */
+class TokenBucket {
+    private final long tokenNanos;
+    private final long burstNanos;
+    private final AtomicLong emptyAt;
+    private final LongSupplier nanoClock;
+
+    TokenBucket(int capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        this.tokenNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = tokenNanos * capacity;
+        this.nanoClock = nanoClock;
+        this.emptyAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Забирает токен.
+     *
+     * @return 0, если токен получен, иначе сколько наносекунд ждать следующего токена
+     */
+    long tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = emptyAt.get();
+            long next = Math.max(current, now) + tokenNanos;
+            long debt = next - now - burstNanos;
+            if (debt > 0) {
+                return debt;
+            }
+            if (emptyAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
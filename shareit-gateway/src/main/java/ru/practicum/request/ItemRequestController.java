@@ -2,13 +2,14 @@ package ru.practicum.request;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.constans.Constants;
 import ru.practicum.exception.Marker;
 import ru.practicum.request.dto.ItemRequestDto;
 
-import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 
 
 @Slf4j
@@ -16,6 +17,7 @@ import java.util.List;
 @Validated
 @AllArgsConstructor
 @RequestMapping(path = "/requests")
+@Profile("!reactive")
 public class ItemRequestController {
     private RequestClient requestClient;
 
@@ -35,16 +37,18 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public List<ItemRequestDto> getRequests(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId) {
+    public void getRequests(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                            HttpServletResponse response) {
         log.info("Выполняется запрос получения информации о всех ItemRequest пользователя под id: {}", userId);
-        return requestClient.getRequestsByUser(userId);
+        requestClient.getRequestsByUser(userId, response);
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getRequests(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
-                                            @RequestParam int from,
-                                            @RequestParam int size) {
+    public void getRequests(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
+                            @RequestParam int from,
+                            @RequestParam int size,
+                            HttpServletResponse response) {
         log.info("Выполняется запрос страницы с индекса {}, размером {}, от пользователя {}", from, size, userId);
-        return requestClient.getRequestsAll(userId, from, size);
+        requestClient.getRequestsAll(userId, from, size, response);
     }
 }
@@ -0,0 +1,62 @@
+package ru.practicum.request;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.client.ServerErrors;
+import ru.practicum.exception.DataNotFound;
+import ru.practicum.request.dto.ItemRequestDto;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+@Component
+@Profile("reactive")
+public class ReactiveRequestClient {
+    private static final String API_PREFIX = "/requests";
+    private final WebClient webClient;
+
+    public ReactiveRequestClient(@Value("${shareIt-server.url}") String serverUrl, WebClient.Builder builder) {
+        this.webClient = builder.baseUrl(serverUrl + API_PREFIX).build();
+    }
+
+    public Mono<ItemRequestDto> createItemRequest(long userId, ItemRequestDto itemRequestDto) {
+        return webClient.post()
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .bodyValue(itemRequestDto)
+                .retrieve()
+                .bodyToMono(ItemRequestDto.class)
+                .onErrorMap(WebClientResponseException.class, ServerErrors::badRequestOrNotFound);
+    }
+
+    public Mono<ItemRequestDto> getRequestById(long userId, long requestId) {
+        return webClient.get().uri("/{id}", requestId)
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToMono(ItemRequestDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new DataNotFound(e.getMessage()));
+    }
+
+    public Flux<ItemRequestDto> getRequestsByUser(long userId) {
+        return webClient.get()
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToFlux(ItemRequestDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new DataNotFound(e.getMessage()));
+    }
+
+    public Flux<ItemRequestDto> getRequestsAll(long userId, int from, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/all")
+                        .queryParam("from", from)
+                        .queryParam("size", size)
+                        .build())
+                .header(REQUEST_HEADER_NAME, String.valueOf(userId))
+                .retrieve()
+                .bodyToFlux(ItemRequestDto.class)
+                .onErrorMap(WebClientResponseException.class, ServerErrors::badRequestOrNotFound);
+    }
+}
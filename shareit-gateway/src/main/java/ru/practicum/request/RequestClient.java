@@ -2,31 +2,36 @@ package ru.practicum.request;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.client.PassThrough;
 import ru.practicum.exception.DataNotFound;
 import ru.practicum.request.dto.ItemRequestDto;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.List;
 
 import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
 
 @Component
+@Profile("!reactive")
 public class RequestClient {
     private static final String API_PREFIX = "/requests";
     private RestTemplate restTemplate;
 
-    public RequestClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public RequestClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory) {
         this.restTemplate = builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .requestFactory(() -> requestFactory)
                 .build();
     }
 
@@ -50,10 +55,10 @@ public class RequestClient {
         }
     }
 
-    public List<ItemRequestDto> getRequestsByUser(long userId) {
+    public void getRequestsByUser(long userId, HttpServletResponse response) {
         HttpEntity<ItemRequestDto> httpEntity = getHttpEntity(userId, null);
         try {
-            return restTemplate.exchange("", HttpMethod.GET, httpEntity, List.class).getBody();
+            restTemplate.execute("", HttpMethod.GET, PassThrough.headersOf(httpEntity), PassThrough.to(response));
         } catch (HttpStatusCodeException e) {
             throw new DataNotFound(e.getMessage());
         }
@@ -74,10 +79,11 @@ public class RequestClient {
     }
 
 
-    public List<ItemRequestDto> getRequestsAll(long userId, int from, int size) {
+    public void getRequestsAll(long userId, int from, int size, HttpServletResponse response) {
         HttpEntity<ItemRequestDto> httpEntity = getHttpEntity(userId, null);
         try {
-            return restTemplate.exchange("/all?from=" + from + "&size=" + size, HttpMethod.GET, httpEntity, List.class).getBody();
+            restTemplate.execute("/all?from=" + from + "&size=" + size, HttpMethod.GET,
+                    PassThrough.headersOf(httpEntity), PassThrough.to(response));
         } catch (HttpStatusCodeException e) {
             if (e.getMessage().contains("400")) throw new IllegalArgumentException(e.getMessage());
             throw new DataNotFound(e.getMessage());
@@ -0,0 +1,56 @@
+package ru.practicum.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.user.userDto.UserDto;
+
+import javax.persistence.EntityNotFoundException;
+
+@Component
+@Profile("reactive")
+public class ReactiveUserClient {
+    private static final String API_PREFIX = "/users";
+    private final WebClient webClient;
+
+    public ReactiveUserClient(@Value("${shareIt-server.url}") String serverUrl, WebClient.Builder builder) {
+        this.webClient = builder.baseUrl(serverUrl + API_PREFIX).build();
+    }
+
+    protected Mono<UserDto> get(long userId) {
+        return webClient.get().uri("/{id}", userId)
+                .retrieve()
+                .bodyToMono(UserDto.class)
+                .onErrorMap(WebClientResponseException.class, e -> new EntityNotFoundException(e.getMessage()));
+    }
+
+    protected Mono<UserDto> post(UserDto body) {
+        return webClient.post()
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(UserDto.class);
+    }
+
+    protected Mono<UserDto> patch(long userId, UserDto body) {
+        return webClient.patch().uri("/{id}", userId)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(UserDto.class);
+    }
+
+    protected Mono<Void> delete(long userId) {
+        return webClient.delete().uri("/{id}", userId)
+                .retrieve()
+                .bodyToMono(Void.class);
+    }
+
+    public Flux<UserDto> getAll() {
+        return webClient.get()
+                .retrieve()
+                .bodyToFlux(UserDto.class);
+    }
+}
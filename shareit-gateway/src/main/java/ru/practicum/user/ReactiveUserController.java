@@ -0,0 +1,52 @@
+package ru.practicum.user;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.exception.Marker;
+import ru.practicum.user.userDto.UserDto;
+
+@Slf4j
+@RestController
+@AllArgsConstructor
+@Validated
+@RequestMapping(path = "/users")
+@Profile("reactive")
+public class ReactiveUserController {
+    private ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<UserDto> createUser(@Validated({Marker.OnCreate.class}) @RequestBody UserDto userDto) {
+        log.info("Выполняется запрос на создание пользователя");
+        return userClient.post(userDto);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<UserDto> updateUser(@PathVariable long id,
+                                    @Validated({Marker.OnUpdate.class}) @RequestBody UserDto userDto) {
+        log.info("Выполняется запрос обновления пользователя под ID: {}", id);
+        return userClient.patch(id, userDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<UserDto> getUserById(@PathVariable long id) {
+        log.info("Выполняется запрос поиска пользователя по ID: {}", id);
+        return userClient.get(id);
+    }
+
+    @GetMapping
+    public Flux<UserDto> getAllUser() {
+        log.info("Выполняется запрос поиска всех пользователей");
+        return userClient.getAll();
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<Void> removeUser(@PathVariable long id) {
+        log.info("Выполняется запрос удаления пользователя");
+        return userClient.delete(id);
+    }
+}
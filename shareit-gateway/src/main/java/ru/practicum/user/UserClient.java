@@ -2,26 +2,31 @@ package ru.practicum.user;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.client.PassThrough;
 import ru.practicum.user.userDto.UserDto;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 
 @Component
+@Profile("!reactive")
 public class UserClient {
     private static final String API_PREFIX = "/users";
     private RestTemplate restTemplate;
 
 
-    public UserClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareIt-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory) {
         this.restTemplate = builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .requestFactory(() -> requestFactory)
                 .build();
 
     }
@@ -46,7 +51,7 @@ public class UserClient {
         restTemplate.delete("/" + userId);
     }
 
-    public List<UserDto> getAll() {
-        return restTemplate.getForObject("", List.class);
+    public void getAll(HttpServletResponse response) {
+        restTemplate.execute("", HttpMethod.GET, null, PassThrough.to(response));
     }
 }
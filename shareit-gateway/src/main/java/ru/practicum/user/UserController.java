@@ -2,18 +2,20 @@ package ru.practicum.user;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.exception.Marker;
 import ru.practicum.user.userDto.UserDto;
 
-import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 
 @Slf4j
 @RestController
 @AllArgsConstructor
 @Validated
 @RequestMapping(path = "/users")
+@Profile("!reactive")
 public class UserController {
     private UserClient userClient;
 
@@ -37,9 +39,9 @@ public class UserController {
     }
 
     @GetMapping
-    public List<UserDto> getAllUser() {
+    public void getAllUser(HttpServletResponse response) {
         log.info("Выполняется запрос поиска всех пользователей");
-        return userClient.getAll();
+        userClient.getAll(response);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,32 @@
+package ru.practicum;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Гейтвей в реактивном режиме на Netty перед заглушкой shareit-server.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+public abstract class ReactiveGatewayTest {
+    protected static final StubServer SERVER = StubServer.shared();
+
+    @Autowired
+    protected WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareIt-server.url", SERVER::url);
+    }
+
+    @BeforeEach
+    public void resetServer() {
+        SERVER.reset();
+    }
+}
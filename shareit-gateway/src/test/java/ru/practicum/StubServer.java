@@ -0,0 +1,124 @@
+package ru.practicum;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Заглушка shareit-server для тестов гейтвея: отвечает заданными ответами по методу и пути
+ * и запоминает пришедшие запросы. Один экземпляр на JVM, чтобы тестовые контексты Spring с его адресом
+ * переиспользовались между классами.
+ */
+public final class StubServer {
+    private static final StubServer SHARED = new StubServer();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "stub-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    private StubServer() {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public static StubServer shared() {
+        return SHARED;
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void reset() {
+        handlers.clear();
+        requests.clear();
+    }
+
+    public void respond(String method, String path, int status, String body) {
+        respond(method, path, status, body, Map.of());
+    }
+
+    public void respond(String method, String path, int status, String body, Map<String, String> headers) {
+        respond(method, path, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            headers.forEach(exchange.getResponseHeaders()::add);
+            write(exchange, status, body);
+        });
+    }
+
+    public void respond(String method, String path, Handler handler) {
+        handlers.put(method + " " + path, handler);
+    }
+
+    public List<Request> requests() {
+        return List.copyOf(requests);
+    }
+
+    public List<Request> requests(String method, String path) {
+        return requests.stream()
+                .filter(request -> request.getMethod().equals(method) && request.getPath().equals(path))
+                .collect(Collectors.toList());
+    }
+
+    public static void write(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        requests.add(new Request(method, path, exchange.getRequestURI().getRawQuery(),
+                exchange.getRequestHeaders().getFirst("X-Sharer-User-Id"),
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+        Handler handler = handlers.get(method + " " + path);
+        if (handler == null) {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            write(exchange, 404, "{\"error\":\"Не найдено: " + method + " " + path + "\"}");
+            return;
+        }
+        handler.handle(exchange);
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    @Value
+    public static class Request {
+        String method;
+        String path;
+        String query;
+        String userId;
+        String body;
+    }
+}
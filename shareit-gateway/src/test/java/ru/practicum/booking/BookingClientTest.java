@@ -0,0 +1,43 @@
+package ru.practicum.booking;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.client.response.MockRestResponseCreators;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+class BookingClientTest {
+
+    @Test
+    void bookingListsEncodeStateAndCursor() {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        BookingClient bookingClient = new BookingClient("http://localhost:9090", new RestTemplateBuilder(customizer),
+                new SimpleClientHttpRequestFactory());
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(MockRestRequestMatchers.requestTo(Matchers.startsWith("http://localhost:9090/bookings/owner?")))
+                .andExpect(request -> {
+                    Map<String, String> parameters = new HashMap<>();
+                    UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams()
+                            .forEach((name, values) -> parameters.put(name, UriUtils.decode(values.get(0), StandardCharsets.UTF_8)));
+                    Assertions.assertEquals(Map.of("from", "0", "size", "10", "state", "ALL&size=100000", "after", "a+b/c"),
+                            parameters);
+                })
+                .andRespond(MockRestResponseCreators.withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        bookingClient.getAllBookingsByOwner(1, "ALL&size=100000", 0, 10, "a+b/c", new MockHttpServletResponse());
+
+        server.verify();
+    }
+}
@@ -0,0 +1,155 @@
+package ru.practicum.booking;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import ru.practicum.ReactiveGatewayTest;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static ru.practicum.constans.Constants.NEXT_CURSOR_HEADER_NAME;
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+class ReactiveBookingControllerTest extends ReactiveGatewayTest {
+    private static final String BOOKING = "{\"id\":1,\"status\":\"WAITING\",\"booker\":{\"id\":1},\"item\":{\"id\":2}}";
+
+    @Test
+    void createBooking() {
+        SERVER.respond("POST", "/bookings", 200, BOOKING);
+
+        webTestClient.post().uri("/bookings")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(booking(LocalDateTime.now().plusDays(1), 2))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(BOOKING);
+    }
+
+    @Test
+    void createBookingTestNotValidIsNotSentToServer() {
+        webTestClient.post().uri("/bookings")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(booking(LocalDateTime.now().minusDays(1), 0))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.violations.length()").isEqualTo(2);
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void createBookingTestServerErrors() {
+        SERVER.respond("POST", "/bookings", 400, "{\"error\":\"Вещь недоступна\"}");
+        webTestClient.post().uri("/bookings")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(booking(LocalDateTime.now().plusDays(1), 2))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        SERVER.respond("POST", "/bookings", 404, "{\"error\":\"Вещь не найдена\"}");
+        webTestClient.post().uri("/bookings")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(booking(LocalDateTime.now().plusDays(1), 2))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void confirmationBooking() {
+        SERVER.respond("PATCH", "/bookings/1", 200, BOOKING.replace("WAITING", "APPROVED"));
+
+        webTestClient.patch().uri("/bookings/1?approved=true")
+                .header(REQUEST_HEADER_NAME, "2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.status").isEqualTo("APPROVED");
+        Assertions.assertEquals("approved=true", SERVER.requests("PATCH", "/bookings/1").get(0).getQuery());
+    }
+
+    @Test
+    void confirmationBookingTestWithoutApprovedIsBadRequest() {
+        webTestClient.patch().uri("/bookings/1")
+                .header(REQUEST_HEADER_NAME, "2")
+                .exchange()
+                .expectStatus().isBadRequest();
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void getBookingById() {
+        SERVER.respond("GET", "/bookings/1", 200, BOOKING);
+
+        webTestClient.get().uri("/bookings/1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(BOOKING);
+    }
+
+    @Test
+    void getBookingByIdTestServerErrorIsNotFound() {
+        SERVER.respond("GET", "/bookings/1", 400, "{\"error\":\"Нет доступа\"}");
+
+        webTestClient.get().uri("/bookings/1")
+                .header(REQUEST_HEADER_NAME, "3")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getAllBookingsByBookerTestNextCursorIsCopied() {
+        SERVER.respond("GET", "/bookings", 200, "[" + BOOKING + "]", Map.of(NEXT_CURSOR_HEADER_NAME, "c2"));
+
+        webTestClient.get().uri("/bookings?state=WAITING&size=1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(NEXT_CURSOR_HEADER_NAME, "c2")
+                .expectBody().json("[" + BOOKING + "]");
+        Assertions.assertEquals("from=0&size=1&state=WAITING",
+                SERVER.requests("GET", "/bookings").get(0).getQuery());
+    }
+
+    @Test
+    void getAllBookingByOwnerTestLastPageHasNoNextCursor() {
+        SERVER.respond("GET", "/bookings/owner", 200, "[" + BOOKING + "]");
+
+        webTestClient.get().uri("/bookings/owner?after=c2")
+                .header(REQUEST_HEADER_NAME, "2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(NEXT_CURSOR_HEADER_NAME)
+                .expectBody().json("[" + BOOKING + "]");
+        Assertions.assertEquals("from=0&size=5&state=ALL&after=c2",
+                SERVER.requests("GET", "/bookings/owner").get(0).getQuery());
+    }
+
+    @Test
+    void getAllBookingsByBookerTestUnknownState() {
+        SERVER.respond("GET", "/bookings", 400, "{\"error\":\"Unknown state: UNSUPPORTED_STATUS\"}");
+
+        webTestClient.get().uri("/bookings?state=UNSUPPORTED_STATUS")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Unknown state: UNSUPPORTED_STATUS");
+    }
+
+    @Test
+    void getAllBookingByOwnerTestServerNotFound() {
+        SERVER.respond("GET", "/bookings/owner", 404, "{\"error\":\"Пользователь не найден\"}");
+
+        webTestClient.get().uri("/bookings/owner")
+                .header(REQUEST_HEADER_NAME, "9")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static Map<String, Object> booking(LocalDateTime start, long itemId) {
+        return Map.of("start", start.toString(), "end", start.plusDays(1).toString(), "itemId", itemId);
+    }
+}
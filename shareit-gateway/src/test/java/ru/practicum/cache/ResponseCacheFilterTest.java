@@ -0,0 +1,184 @@
+package ru.practicum.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ru.practicum.constans.Constants.NEXT_CURSOR_HEADER_NAME;
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+class ResponseCacheFilterTest {
+    private ResponseCacheFilter filter;
+    private AtomicInteger serverCalls;
+    private int serverStatus;
+    private String writeBody;
+
+    @BeforeEach
+    public void setUp() {
+        ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+        filter = new ResponseCacheFilter(responseCache, new CacheInvalidation(responseCache, new ObjectMapper()));
+        serverCalls = new AtomicInteger();
+        serverStatus = HttpStatus.OK.value();
+        writeBody = null;
+    }
+
+    @Test
+    void repeatedGetIsServedFromCache() throws Exception {
+        MockHttpServletResponse first = perform("GET", "/bookings", "1");
+        MockHttpServletResponse second = perform("GET", "/bookings", "1");
+
+        Assertions.assertEquals(1, serverCalls.get());
+        Assertions.assertEquals(HttpStatus.OK.value(), second.getStatus());
+        Assertions.assertEquals(first.getContentAsString(), second.getContentAsString());
+        Assertions.assertEquals("c1", second.getHeader(NEXT_CURSOR_HEADER_NAME));
+        Assertions.assertEquals(MediaType.APPLICATION_JSON_VALUE, second.getContentType());
+    }
+
+    @Test
+    void itemUpdateEvictsOnlyThatItemAndOwnerListing() throws Exception {
+        perform("GET", "/items/1", "2");
+        perform("GET", "/items/2", "2");
+        perform("GET", "/items", "1");
+        perform("GET", "/items", "2");
+        perform("GET", "/requests", "2");
+        writeBody = "{\"id\":1,\"name\":\"Дрель\",\"requestId\":0}";
+        perform("PATCH", "/items/1", "1");
+
+        Assertions.assertEquals(6, serverCalls.get());
+        perform("GET", "/items/2", "2");
+        perform("GET", "/items", "2");
+        perform("GET", "/requests", "2");
+        Assertions.assertEquals(6, serverCalls.get());
+        perform("GET", "/items/1", "2");
+        perform("GET", "/items", "1");
+        Assertions.assertEquals(8, serverCalls.get());
+    }
+
+    @Test
+    void bookingEvictsBookerAndOwnerViewsOnly() throws Exception {
+        perform("GET", "/bookings", "2");
+        perform("GET", "/bookings", "3");
+        perform("GET", "/bookings/owner", "1");
+        perform("GET", "/items/5", "1");
+        perform("GET", "/items/6", "1");
+        writeBody = "{\"id\":7,\"booker\":{\"id\":2},\"item\":{\"id\":5}}";
+        perform("POST", "/bookings", "2");
+
+        perform("GET", "/bookings", "3");
+        perform("GET", "/items/6", "1");
+        Assertions.assertEquals(6, serverCalls.get());
+        perform("GET", "/bookings", "2");
+        perform("GET", "/bookings/owner", "1");
+        perform("GET", "/items/5", "1");
+        Assertions.assertEquals(9, serverCalls.get());
+    }
+
+    @Test
+    void approvalEvictsBookerEntries() throws Exception {
+        perform("GET", "/bookings", "2");
+        perform("GET", "/bookings/7", "2");
+        perform("GET", "/bookings/8", "3");
+        writeBody = "{\"id\":7,\"booker\":{\"id\":2},\"item\":{\"id\":5}}";
+        perform("PATCH", "/bookings/7", "1");
+
+        perform("GET", "/bookings/8", "3");
+        Assertions.assertEquals(4, serverCalls.get());
+        perform("GET", "/bookings", "2");
+        perform("GET", "/bookings/7", "2");
+        Assertions.assertEquals(6, serverCalls.get());
+    }
+
+    @Test
+    void rejectedWriteKeepsCache() throws Exception {
+        perform("GET", "/bookings", "2");
+        serverStatus = HttpStatus.BAD_REQUEST.value();
+        perform("POST", "/bookings", "2");
+        serverStatus = HttpStatus.OK.value();
+        perform("GET", "/bookings", "2");
+
+        Assertions.assertEquals(2, serverCalls.get());
+    }
+
+    @Test
+    void failedOrUnreadableWriteClearsAffectedResources() throws Exception {
+        perform("GET", "/items/6", "1");
+        serverStatus = HttpStatus.GATEWAY_TIMEOUT.value();
+        perform("POST", "/bookings", "2");
+        serverStatus = HttpStatus.OK.value();
+        perform("GET", "/items/6", "1");
+        Assertions.assertEquals(3, serverCalls.get());
+
+        writeBody = "не json";
+        perform("POST", "/bookings", "2");
+        perform("GET", "/items/6", "1");
+        Assertions.assertEquals(5, serverCalls.get());
+    }
+
+    @Test
+    void headAndOptionsDoNotInvalidateCache() throws Exception {
+        perform("GET", "/items/1", "1");
+        perform("HEAD", "/items/1", "1");
+        perform("OPTIONS", "/items/1", "1");
+        perform("GET", "/items/1", "1");
+
+        Assertions.assertEquals(3, serverCalls.get());
+    }
+
+    @Test
+    void usersHaveSeparateEntries() throws Exception {
+        MockHttpServletResponse first = perform("GET", "/bookings/1", "1");
+        MockHttpServletResponse second = perform("GET", "/bookings/1", "2");
+        perform("GET", "/bookings/1", "1");
+        MockHttpServletResponse anonymous = perform("GET", "/bookings/1", null);
+
+        Assertions.assertEquals(3, serverCalls.get());
+        Assertions.assertNotEquals(first.getContentAsString(), second.getContentAsString());
+        Assertions.assertNotEquals(first.getContentAsString(), anonymous.getContentAsString());
+    }
+
+    @Test
+    void nonOkResponseIsNotCached() throws Exception {
+        serverStatus = HttpStatus.NOT_FOUND.value();
+        perform("GET", "/users/9", "1");
+        MockHttpServletResponse second = perform("GET", "/users/9", "1");
+
+        Assertions.assertEquals(2, serverCalls.get());
+        Assertions.assertEquals(HttpStatus.NOT_FOUND.value(), second.getStatus());
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (userId != null) {
+            request.addHeader(REQUEST_HEADER_NAME, userId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, server());
+        return response;
+    }
+
+    private FilterChain server() {
+        return (request, response) -> {
+            int call = serverCalls.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(serverStatus);
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.setHeader(NEXT_CURSOR_HEADER_NAME, "c" + call);
+            String body = writeBody != null && !HttpMethod.GET.matches(((HttpServletRequest) request).getMethod())
+                    ? writeBody : "{\"call\":" + call + "}";
+            httpResponse.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package ru.practicum.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+class SingleFlightFilterTest {
+    private static final int REQUESTS = 8;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable);
+        threads.add(thread);
+        return thread;
+    });
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger serverCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightProperties properties;
+    private volatile boolean firstCallFails;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SingleFlightProperties();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneServerCall() throws Exception {
+        SingleFlightFilter filter = new SingleFlightFilter(properties, meterRegistry);
+
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(perform(filter, get("1", null)));
+        }
+        awaitBlocked(REQUESTS);
+        release.countDown();
+
+        for (Future<MockHttpServletResponse> response : responses) {
+            Assertions.assertEquals("{\"call\":1}", response.get(5, TimeUnit.SECONDS).getContentAsString());
+        }
+        Assertions.assertEquals(1, serverCalls.get());
+        Assertions.assertEquals(REQUESTS - 1, meterRegistry.counter("gateway.single-flight.collapsed").count());
+    }
+
+    @Test
+    void followersFallBackWhenLeaderFails() throws Exception {
+        firstCallFails = true;
+        SingleFlightFilter filter = new SingleFlightFilter(properties, meterRegistry);
+
+        Future<MockHttpServletResponse> leader = perform(filter, get("1", null));
+        awaitServerCalls(1);
+        List<Future<MockHttpServletResponse>> followers = new ArrayList<>();
+        for (int i = 1; i < REQUESTS; i++) {
+            followers.add(perform(filter, get("1", null)));
+        }
+        awaitBlocked(REQUESTS);
+        release.countDown();
+
+        ExecutionException failure = Assertions.assertThrows(ExecutionException.class,
+                () -> leader.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(ServletException.class, failure.getCause());
+        for (Future<MockHttpServletResponse> follower : followers) {
+            Assertions.assertEquals(HttpStatus.OK.value(), follower.get(5, TimeUnit.SECONDS).getStatus());
+        }
+        Assertions.assertEquals(REQUESTS, serverCalls.get());
+        Assertions.assertEquals(REQUESTS - 1, meterRegistry.counter("gateway.single-flight.fallbacks").count());
+    }
+
+    @Test
+    void followerStopsWaitingAfterMaxWait() throws Exception {
+        properties.setMaxWait(Duration.ofMillis(100));
+        SingleFlightFilter filter = new SingleFlightFilter(properties, meterRegistry);
+
+        Future<MockHttpServletResponse> leader = perform(filter, get("1", null));
+        awaitServerCalls(1);
+        Future<MockHttpServletResponse> follower = perform(filter, get("1", null));
+
+        awaitServerCalls(2);
+        Assertions.assertFalse(leader.isDone());
+        Assertions.assertEquals(1, meterRegistry.counter("gateway.single-flight.fallbacks").count());
+        release.countDown();
+        Assertions.assertEquals("{\"call\":2}", follower.get(5, TimeUnit.SECONDS).getContentAsString());
+        Assertions.assertEquals("{\"call\":1}", leader.get(5, TimeUnit.SECONDS).getContentAsString());
+    }
+
+    @Test
+    void differentUsersAreNotCollapsed() throws Exception {
+        SingleFlightFilter filter = new SingleFlightFilter(properties, meterRegistry);
+
+        List<Future<MockHttpServletResponse>> responses = List.of(
+                perform(filter, get("1", null)),
+                perform(filter, get("2", null)),
+                perform(filter, get(null, null)),
+                perform(filter, get("1", "Bearer a")),
+                perform(filter, get("1", "Bearer b")));
+
+        awaitServerCalls(responses.size());
+        release.countDown();
+        for (Future<MockHttpServletResponse> response : responses) {
+            Assertions.assertEquals(HttpStatus.OK.value(), response.get(5, TimeUnit.SECONDS).getStatus());
+        }
+        Assertions.assertEquals(0, meterRegistry.counter("gateway.single-flight.collapsed").count());
+    }
+
+    private MockHttpServletRequest get(String userId, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookings");
+        request.setQueryString("state=ALL");
+        if (userId != null) {
+            request.addHeader(REQUEST_HEADER_NAME, userId);
+        }
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return request;
+    }
+
+    private Future<MockHttpServletResponse> perform(SingleFlightFilter filter, MockHttpServletRequest request) {
+        return executor.submit(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, server());
+            return response;
+        });
+    }
+
+    private FilterChain server() {
+        return (request, response) -> {
+            int call = serverCalls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (call == 1 && firstCallFails) {
+                throw new ServletException("Сервер недоступен");
+            }
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpResponse.getOutputStream().write(("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private void awaitServerCalls(int calls) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (serverCalls.get() < calls && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(calls, serverCalls.get());
+    }
+
+    private void awaitBlocked(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long blocked = threads.stream()
+                    .filter(thread -> thread.getState() == Thread.State.WAITING
+                            || thread.getState() == Thread.State.TIMED_WAITING)
+                    .count();
+            if (blocked >= count) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        Assertions.fail("Запросы не дождались ответа первого");
+    }
+}
@@ -0,0 +1,192 @@
+package ru.practicum.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import ru.practicum.exception.ServerOverloadedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class AdaptiveConcurrencyLimiterTest {
+    private final MockClientHttpRequest request = new MockClientHttpRequest();
+    private ConcurrencyLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(200);
+        properties.setLatencyThreshold(Duration.ofMillis(50));
+        properties.setBackoffRatio(0.5);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void utilisedLimitGrowsByOne() throws IOException {
+        properties.setInitialLimit(2);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        call(limiter, respond(HttpStatus.OK));
+        Assertions.assertEquals(3, limiter.getLimit());
+        call(limiter, respond(HttpStatus.OK));
+        Assertions.assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void limitGrowsUnderConcurrentLoad() throws IOException {
+        properties.setInitialLimit(4);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        call(limiter, nested(limiter, 4));
+
+        Assertions.assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    void serverErrorDecreasesLimit() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        call(limiter, respond(HttpStatus.SERVICE_UNAVAILABLE));
+        Assertions.assertEquals(10, limiter.getLimit());
+        call(limiter, respond(HttpStatus.INTERNAL_SERVER_ERROR));
+        Assertions.assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void slowResponseAndIoErrorDecreaseLimit() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        call(limiter, (request, body) -> {
+            sleep(properties.getLatencyThreshold().toMillis() + 20);
+            return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        });
+        Assertions.assertEquals(10, limiter.getLimit());
+        Assertions.assertThrows(SocketTimeoutException.class, () -> limiter.intercept(request, new byte[0],
+                (request, body) -> {
+                    throw new SocketTimeoutException("Read timed out");
+                }));
+        Assertions.assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void concurrentCongestedResponsesDecreaseLimitOnce() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        List<ClientHttpResponse> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(limiter.intercept(request, new byte[0], respond(HttpStatus.SERVICE_UNAVAILABLE)));
+        }
+        for (ClientHttpResponse response : responses) {
+            response.close();
+        }
+        Assertions.assertEquals(10, limiter.getLimit());
+
+        call(limiter, respond(HttpStatus.SERVICE_UNAVAILABLE));
+        Assertions.assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void limitStaysWithinBounds() throws IOException {
+        properties.setInitialLimit(5);
+        properties.setMaxLimit(5);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        call(limiter, nested(limiter, 5));
+        Assertions.assertEquals(5, limiter.getLimit());
+        for (int i = 0; i < 5; i++) {
+            call(limiter, respond(HttpStatus.BAD_GATEWAY));
+        }
+        Assertions.assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void requestOverLimitIsRejected() throws IOException {
+        properties.setInitialLimit(4);
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        Assertions.assertThrows(ServerOverloadedException.class,
+                () -> call(limiter, nested(limiter, 5)));
+
+        Assertions.assertEquals(1, meterRegistry.counter("gateway.concurrency.rejected").count());
+        Assertions.assertEquals(0, meterRegistry.get("gateway.concurrency.in-flight").gauge().value());
+        Assertions.assertEquals(4, limiter.getLimit());
+        call(limiter, respond(HttpStatus.OK));
+    }
+
+    @Test
+    void permitIsHeldUntilBodyIsRead() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        ClientHttpResponse response = limiter.intercept(request, new byte[0], respond(HttpStatus.OK));
+        Assertions.assertEquals(1, meterRegistry.get("gateway.concurrency.in-flight").gauge().value());
+        sleep(properties.getLatencyThreshold().toMillis() + 20);
+        response.close();
+
+        Assertions.assertEquals(0, meterRegistry.get("gateway.concurrency.in-flight").gauge().value());
+        Assertions.assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void bodyReadErrorDecreasesLimit() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+
+        ClientHttpResponse response = limiter.intercept(request, new byte[0], (request, body) ->
+                new MockClientHttpResponse(new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new SocketTimeoutException("Read timed out");
+                    }
+                }, HttpStatus.OK));
+        Assertions.assertThrows(SocketTimeoutException.class, () -> response.getBody().read());
+        Assertions.assertEquals(10, limiter.getLimit());
+        response.close();
+        Assertions.assertEquals(10, limiter.getLimit());
+    }
+
+    /**
+     * Вызов с закрытием ответа, как это делает RestTemplate.
+     */
+    private void call(AdaptiveConcurrencyLimiter limiter, ClientHttpRequestExecution execution) throws IOException {
+        limiter.intercept(request, new byte[0], execution).close();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    private static ClientHttpRequestExecution respond(HttpStatus status) {
+        return (request, body) -> new MockClientHttpResponse(new byte[0], status);
+    }
+
+    /**
+     * Вызов, внутри которого выполняются ещё depth - 1 вложенных вызовов: в момент старта самого
+     * внутреннего в полёте depth запросов.
+     */
+    private static ClientHttpRequestExecution nested(AdaptiveConcurrencyLimiter limiter, int depth) {
+        if (depth == 1) {
+            return respond(HttpStatus.OK);
+        }
+        return (request, body) -> limiter.intercept(request, body, nested(limiter, depth - 1));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.StubServer;
+import ru.practicum.deadline.DeadlineInterceptor;
+import ru.practicum.exception.DeadlineExceededException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+class PassThroughTest {
+    private static final StubServer SERVER = StubServer.shared();
+    private static final String BODY = "[{\"id\":1},{\"id\":2},{\"id\":3}]";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private CloseableHttpClient httpClient;
+    private AdaptiveConcurrencyLimiter limiter;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        SERVER.reset();
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setReadTimeout(Duration.ofMillis(200));
+        HttpClientConfig config = new HttpClientConfig();
+        httpClient = config.httpClient(config.connectionManager(properties), properties);
+        limiter = new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(), meterRegistry);
+        restTemplate = new RestTemplate(config.clientHttpRequestFactory(httpClient));
+        restTemplate.setInterceptors(List.of(
+                new ResilienceInterceptor(circuitBreakerRegistry, bulkheadRegistry),
+                new DeadlineInterceptor(meterRegistry),
+                limiter));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        httpClient.close();
+    }
+
+    @Test
+    void bodyIsStreamedWhileRequestHoldsItsPermits() {
+        SERVER.respond("GET", "/bookings", 200, BODY);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("bookings");
+        int available = bulkhead.getMetrics().getAvailableConcurrentCalls();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        restTemplate.execute(SERVER.url() + "/bookings", HttpMethod.GET, null, serverResponse -> {
+            Assertions.assertEquals(1, inFlight());
+            Assertions.assertEquals(available - 1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+            return PassThrough.to(response).extractData(serverResponse);
+        });
+
+        Assertions.assertEquals(BODY, new String(response.getContentAsByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(0, inFlight());
+        Assertions.assertEquals(available, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        Assertions.assertEquals(1, circuitBreakerRegistry.circuitBreaker("bookings").getMetrics()
+                .getNumberOfSuccessfulCalls());
+    }
+
+    @Test
+    void bodyReadTimeoutIsDeadlineExceeded() {
+        SERVER.respond("GET", "/bookings", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 4);
+            OutputStream body = exchange.getResponseBody();
+            body.write('[');
+            body.flush();
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        int limit = limiter.getLimit();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Assertions.assertThrows(DeadlineExceededException.class, () ->
+                restTemplate.execute(SERVER.url() + "/bookings", HttpMethod.GET, null, PassThrough.to(response)));
+
+        Assertions.assertTrue(limiter.getLimit() < limit);
+        Assertions.assertEquals(0, inFlight());
+        CircuitBreaker.Metrics breaker = circuitBreakerRegistry.circuitBreaker("bookings").getMetrics();
+        Assertions.assertEquals(1, breaker.getNumberOfFailedCalls());
+        Assertions.assertEquals(1, meterRegistry.counter("gateway.deadline.exceeded", "route", "GET /bookings").count());
+        Assertions.assertFalse(response.isCommitted());
+        Assertions.assertEquals(0, response.getContentAsByteArray().length);
+        Assertions.assertNull(response.getContentType());
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("gateway.concurrency.in-flight").gauge().value();
+    }
+}
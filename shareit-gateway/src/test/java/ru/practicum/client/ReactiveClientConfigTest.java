@@ -0,0 +1,103 @@
+package ru.practicum.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.StubServer;
+import ru.practicum.exception.ServerOverloadedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class ReactiveClientConfigTest {
+    private static final StubServer SERVER = StubServer.shared();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @BeforeEach
+    public void setUp() {
+        SERVER.reset();
+        SERVER.respond("GET", "/users/1", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubServer.write(exchange, 200, "{}");
+        });
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxTotal(1);
+        properties.setPendingAcquireMaxCount(1);
+        properties.setConnectionRequestTimeout(Duration.ofMillis(300));
+        ReactiveClientConfig config = new ReactiveClientConfig();
+        connectionProvider = config.connectionProvider(properties);
+        WebClient.Builder builder = WebClient.builder().baseUrl(SERVER.url());
+        config.connectionPoolCustomizer(connectionProvider, properties).customize(builder);
+        webClient = builder.build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void exhaustedPoolIsServerOverloaded() throws Exception {
+        CompletableFuture<String> first = get();
+        awaitServerRequests(1);
+        CompletableFuture<String> pending = get();
+
+        ExecutionException rejected = Assertions.assertThrows(ExecutionException.class,
+                () -> get().get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(ServerOverloadedException.class, rejected.getCause());
+        ExecutionException timedOut = Assertions.assertThrows(ExecutionException.class,
+                () -> pending.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(ServerOverloadedException.class, timedOut.getCause());
+
+        release.countDown();
+        Assertions.assertEquals("{}", first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, SERVER.requests("GET", "/users/1").size());
+    }
+
+    @Test
+    void servletOnlyFeaturesAreListedUnlessDisabled() {
+        MockEnvironment environment = new MockEnvironment();
+        Assertions.assertEquals(List.of(
+                "кэш ответов",
+                "объединение одинаковых GET",
+                "ограничение частоты запросов",
+                "адаптивный лимит запросов к серверу",
+                "крайние сроки запросов",
+                "bulkhead и circuit breaker"), ReactiveClientConfig.servletOnlyFeatures(environment));
+
+        environment.setProperty("shareit-gateway.response-cache.enabled", "false");
+        environment.setProperty("shareit-gateway.single-flight.enabled", "false");
+        environment.setProperty("shareit-gateway.rate-limit.enabled", "false");
+        environment.setProperty("shareit-gateway.concurrency-limit.enabled", "false");
+        environment.setProperty("shareit-gateway.deadline.enabled", "false");
+        Assertions.assertEquals(List.of("bulkhead и circuit breaker"), ReactiveClientConfig.servletOnlyFeatures(environment));
+    }
+
+    private CompletableFuture<String> get() {
+        return webClient.get().uri("/users/1").retrieve().bodyToMono(String.class).toFuture();
+    }
+
+    private static void awaitServerRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (SERVER.requests("GET", "/users/1").size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(count, SERVER.requests("GET", "/users/1").size());
+    }
+}
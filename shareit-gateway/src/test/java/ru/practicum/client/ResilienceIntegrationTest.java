@@ -0,0 +1,140 @@
+package ru.practicum.client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.practicum.StubServer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+@SpringBootTest(properties = {
+        "shareit-gateway.deadline.rules[0].method=GET",
+        "shareit-gateway.deadline.rules[0].path=/users/{id}",
+        "shareit-gateway.deadline.rules[0].budget=200ms",
+        "resilience4j.circuitbreaker.instances.users.sliding-window-type=COUNT_BASED",
+        "resilience4j.circuitbreaker.instances.users.sliding-window-size=4",
+        "resilience4j.circuitbreaker.instances.users.minimum-number-of-calls=4",
+        "resilience4j.circuitbreaker.instances.users.wait-duration-in-open-state=300ms",
+        "resilience4j.circuitbreaker.instances.users.permitted-number-of-calls-in-half-open-state=2",
+        "resilience4j.bulkhead.instances.items.max-concurrent-calls=1"
+})
+@AutoConfigureMockMvc
+class ResilienceIntegrationTest {
+    private static final StubServer SERVER = StubServer.shared();
+    private static final String USER = "{\"id\":1,\"email\":\"user@mail.ru\",\"name\":\"User\"}";
+    private static final String ITEM = "{\"id\":1,\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareIt-server.url", SERVER::url);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        SERVER.reset();
+    }
+
+    @Test
+    void bulkheadRejectionIsServiceUnavailable() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SERVER.respond("GET", "/items/1", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            StubServer.write(exchange, 200, ITEM);
+        });
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> status("/items/1"));
+        awaitServerRequests("/items/1", 1);
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/2").header(REQUEST_HEADER_NAME, 1))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"));
+        release.countDown();
+
+        Assertions.assertEquals(200, first.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(SERVER.requests("GET", "/items/2").isEmpty());
+    }
+
+    @Test
+    void breakerOpensAfterTimeoutsAndRecoversInHalfOpen() throws Exception {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("users");
+        circuitBreaker.reset();
+        SERVER.respond("GET", "/users/1", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+
+        for (int i = 0; i < 4; i++) {
+            mvc.perform(MockMvcRequestBuilders.get("/users/1"))
+                    .andExpect(MockMvcResultMatchers.status().isGatewayTimeout());
+        }
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        mvc.perform(MockMvcRequestBuilders.get("/users/1"))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"));
+        Assertions.assertEquals(4, SERVER.requests("GET", "/users/1").size());
+
+        SERVER.respond("GET", "/users/1", 200, USER);
+        SERVER.respond("GET", "/users/2", 200, USER.replace("\"id\":1", "\"id\":2"));
+        awaitState(circuitBreaker, CircuitBreaker.State.HALF_OPEN);
+        mvc.perform(MockMvcRequestBuilders.get("/users/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mvc.perform(MockMvcRequestBuilders.get("/users/2"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private int status(String path) {
+        try {
+            return mvc.perform(MockMvcRequestBuilders.get(path).header(REQUEST_HEADER_NAME, 1))
+                    .andReturn().getResponse().getStatus();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitServerRequests(String path, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (SERVER.requests("GET", path).size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(count, SERVER.requests("GET", path).size());
+    }
+
+    private static void awaitState(CircuitBreaker circuitBreaker, CircuitBreaker.State state)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (circuitBreaker.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(state, circuitBreaker.getState());
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import ru.practicum.exception.DeadlineExceededException;
+import ru.practicum.exception.ServerOverloadedException;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class ResilienceInterceptorTest {
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+    private ResilienceInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        interceptor = new ResilienceInterceptor(circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    @Test
+    void expiredDeadlineIsBreakerFailure() {
+        Assertions.assertThrows(DeadlineExceededException.class, () -> interceptor.intercept(request("/bookings/1"),
+                new byte[0], (request, body) -> {
+                    throw new DeadlineExceededException("Истекло время ожидания ответа shareit-server");
+                }));
+
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker("bookings").getMetrics();
+        Assertions.assertEquals(1, metrics.getNumberOfFailedCalls());
+    }
+
+    @Test
+    void limiterRejectionIsNotBreakerFailure() {
+        Assertions.assertThrows(ServerOverloadedException.class, () -> interceptor.intercept(request("/bookings/1"),
+                new byte[0], (request, body) -> {
+                    throw new ServerOverloadedException("Сервер перегружен, повторите запрос позже");
+                }));
+
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker("bookings").getMetrics();
+        Assertions.assertEquals(0, metrics.getNumberOfBufferedCalls());
+    }
+
+    @Test
+    void instancesAreBoundedByClient() throws Exception {
+        for (String path : new String[]{"/items/1", "/items/search", "/random-1/x", "/random-2", "/"}) {
+            interceptor.intercept(request(path), new byte[0],
+                    (request, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK)).close();
+        }
+
+        Set<String> breakers = circuitBreakerRegistry.getAllCircuitBreakers().toJavaStream()
+                .map(CircuitBreaker::getName)
+                .collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of("items", Routes.OTHER), breakers);
+        Assertions.assertEquals(2, bulkheadRegistry.getAllBulkheads().size());
+    }
+
+    private static MockClientHttpRequest request(String path) {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:9090" + path));
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RoutesTest {
+
+    @Test
+    void knownPathsAreTemplates() {
+        Assertions.assertEquals("GET /items/{id}", Routes.of("get", "/items/42"));
+        Assertions.assertEquals("POST /items/{id}/comment", Routes.of("POST", "/items/7/comment"));
+        Assertions.assertEquals("GET /items/search", Routes.of("GET", "/items/search"));
+        Assertions.assertEquals("GET /bookings/owner", Routes.of("GET", "/bookings/owner/"));
+    }
+
+    @Test
+    void unknownPathsAreOther() {
+        Assertions.assertEquals(Routes.OTHER, Routes.of("GET", "/items/abc"));
+        Assertions.assertEquals(Routes.OTHER, Routes.of("GET", "/items/" + "x".repeat(100)));
+        Assertions.assertEquals(Routes.OTHER, Routes.of("DELETE", "/items/1"));
+        Assertions.assertEquals(Routes.OTHER, Routes.of("BREW", "/users"));
+        Assertions.assertEquals(Routes.OTHER, Routes.of("GET", "/actuator/health"));
+    }
+
+    @Test
+    void unknownRuleIsRejected() {
+        Assertions.assertEquals("POST /bookings", Routes.ofRule("POST", "/bookings"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Routes.ofRule("POST", "/booking"));
+    }
+
+    @Test
+    void clientIsFirstKnownSegment() {
+        Assertions.assertEquals("items", Routes.clientOf("/items/1/comment"));
+        Assertions.assertEquals("requests", Routes.clientOf("/requests"));
+        Assertions.assertEquals(Routes.OTHER, Routes.clientOf("/random-" + System.nanoTime()));
+        Assertions.assertEquals(Routes.OTHER, Routes.clientOf("/"));
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.deadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import ru.practicum.exception.DeadlineExceededException;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ru.practicum.constans.Constants.DEADLINE_HEADER_NAME;
+
+class DeadlineInterceptorTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DeadlineInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new DeadlineInterceptor(meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void remainingTimeIsSentToServer() throws Exception {
+        Deadline.start(Duration.ofSeconds(2));
+        MockClientHttpRequest request = request("/items/search");
+
+        interceptor.intercept(request, new byte[0],
+                (httpRequest, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        long remaining = Long.parseLong(request.getHeaders().getFirst(DEADLINE_HEADER_NAME));
+        Assertions.assertTrue(remaining > 0 && remaining <= 2000);
+    }
+
+    @Test
+    void expiredDeadlineIsNotSent() {
+        Deadline.start(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        Assertions.assertThrows(DeadlineExceededException.class, () -> interceptor.intercept(request("/items/5"),
+                new byte[0], (httpRequest, body) -> {
+                    calls.incrementAndGet();
+                    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                }));
+
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(1, meterRegistry.counter("gateway.deadline.exceeded", "route", "GET /items/{id}").count());
+    }
+
+    @Test
+    void exceededRoutesAreBounded() {
+        for (String path : new String[]{"/items/a", "/items/b/c", "/random-" + System.nanoTime()}) {
+            Assertions.assertThrows(DeadlineExceededException.class, () -> interceptor.intercept(request(path),
+                    new byte[0], (httpRequest, body) -> {
+                        throw new SocketTimeoutException("Read timed out");
+                    }));
+        }
+
+        Assertions.assertEquals(1, meterRegistry.find("gateway.deadline.exceeded").counters().size());
+        Assertions.assertEquals(3, meterRegistry.counter("gateway.deadline.exceeded", "route", "other").count());
+    }
+
+    private static MockClientHttpRequest request(String path) {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost:9090" + path));
+    }
+}
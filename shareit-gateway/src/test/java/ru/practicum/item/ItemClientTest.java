@@ -0,0 +1,100 @@
+package ru.practicum.item;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.RequestMatcher;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.client.response.MockRestResponseCreators;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ItemClientTest {
+    private static final String UNSAFE_TEXT = "дрель & size=100000 #1 {x} 100% +";
+
+    private MockRestServiceServer server;
+    private ItemClient itemClient;
+
+    @BeforeEach
+    public void setUp() {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        itemClient = new ItemClient("http://localhost:9090", new RestTemplateBuilder(customizer),
+                new SimpleClientHttpRequestFactory());
+        server = customizer.getServer();
+    }
+
+    @Test
+    void searchEncodesQueryParameters() {
+        server.expect(MockRestRequestMatchers.requestTo(Matchers.startsWith("http://localhost:9090/items/search?")))
+                .andExpect(queryParameters(Map.of(
+                        "text", UNSAFE_TEXT, "tag", "a&b", "from", "0", "size", "10", "fuzzy", "true")))
+                .andRespond(MockRestResponseCreators.withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        itemClient.search(UNSAFE_TEXT, "a&b", 0, 10, true, response);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+        server.verify();
+    }
+
+    @Test
+    void suggestEncodesPrefix() {
+        server.expect(MockRestRequestMatchers.requestTo(Matchers.startsWith("http://localhost:9090/items/suggest?")))
+                .andExpect(queryParameters(Map.of("prefix", UNSAFE_TEXT, "size", "5")))
+                .andRespond(MockRestResponseCreators.withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        itemClient.suggest(UNSAFE_TEXT, 5, new MockHttpServletResponse());
+
+        server.verify();
+    }
+
+    @Test
+    void reactiveSearchAndSuggestEncodeQueryParameters() {
+        AtomicReference<URI> requested = new AtomicReference<>();
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            requested.set(request.url());
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body("[]")
+                    .build());
+        });
+        ReactiveItemClient reactiveItemClient = new ReactiveItemClient("http://localhost:9090", builder);
+
+        reactiveItemClient.search(UNSAFE_TEXT, "a&b", 0, 10, false).collectList().block();
+        Assertions.assertEquals(Map.of("text", UNSAFE_TEXT, "tag", "a&b", "from", "0", "size", "10", "fuzzy", "false"),
+                decodedQuery(requested.get()));
+
+        reactiveItemClient.suggest(UNSAFE_TEXT, 5).block();
+        Assertions.assertEquals(Map.of("prefix", UNSAFE_TEXT, "size", "5"), decodedQuery(requested.get()));
+    }
+
+    private static RequestMatcher queryParameters(Map<String, String> expected) {
+        return request -> Assertions.assertEquals(expected, decodedQuery(request.getURI()));
+    }
+
+    private static Map<String, String> decodedQuery(URI uri) {
+        Map<String, String> parameters = new HashMap<>();
+        UriComponentsBuilder.fromUri(uri).build().getQueryParams().forEach((name, values) -> {
+            Assertions.assertEquals(1, values.size(), name);
+            parameters.put(name, UriUtils.decode(values.get(0), StandardCharsets.UTF_8));
+        });
+        return parameters;
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.practicum.constans.Constants;
+import ru.practicum.item.dto.ItemDto;
+
+import java.util.Set;
+
+@WebMvcTest(controllers = ItemController.class)
+class ItemControllerTest {
+    private static final String LONG_TAG = "т".repeat(56);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private ItemClient itemClient;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @SneakyThrows
+    void createItemTestRejectsInvalidTags() {
+        for (String tag : Set.of(LONG_TAG, " ")) {
+            mockMvc.perform(MockMvcRequestBuilders.post("/items")
+                            .header(Constants.REQUEST_HEADER_NAME, 1)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new ItemDto(0, "Дрель", "Ударная дрель", true, 0, Set.of(tag)))))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        }
+        Mockito.verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    @SneakyThrows
+    void updateItemTestRejectsInvalidTags() {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/items/1")
+                        .header(Constants.REQUEST_HEADER_NAME, 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ItemDto(0, null, null, null, 0, Set.of(LONG_TAG)))))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        Mockito.verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    @SneakyThrows
+    void updateItemTestAcceptsPartialUpdate() {
+        ItemDto item = new ItemDto(0, null, null, null, 0, Set.of("ремонт"));
+        Mockito.when(itemClient.updateItem(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+                .thenReturn(item);
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/items/1")
+                        .header(Constants.REQUEST_HEADER_NAME, 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(item)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+}
@@ -0,0 +1,191 @@
+package ru.practicum.item;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import ru.practicum.ReactiveGatewayTest;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+class ReactiveItemControllerTest extends ReactiveGatewayTest {
+    private static final String ITEM = "{\"id\":1,\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}";
+
+    @Test
+    void createItem() {
+        SERVER.respond("POST", "/items", 200, ITEM);
+
+        webTestClient.post().uri("/items")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(ITEM);
+    }
+
+    @Test
+    void createItemTestNotValidIsNotSentToServer() {
+        webTestClient.post().uri("/items")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Дрель\",\"description\":\"\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.violations.length()").isEqualTo(2);
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void createItemTestServerErrorIsNotFound() {
+        SERVER.respond("POST", "/items", 404, "{\"error\":\"Пользователь не найден\"}");
+
+        webTestClient.post().uri("/items")
+                .header(REQUEST_HEADER_NAME, "9")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void updateItem() {
+        SERVER.respond("PATCH", "/items/1", 200, ITEM);
+
+        webTestClient.patch().uri("/items/1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Простая дрель\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(ITEM);
+    }
+
+    @Test
+    void updateItemTestBlankTagIsNotSentToServer() {
+        webTestClient.patch().uri("/items/1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"tags\":[\" \"]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void getItemById() {
+        SERVER.respond("GET", "/items/1", 200, ITEM);
+
+        webTestClient.get().uri("/items/1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(ITEM);
+    }
+
+    @Test
+    void getItemByIdTestNotFound() {
+        webTestClient.get().uri("/items/2")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getAllItemByOwner() {
+        SERVER.respond("GET", "/items", 200, "[" + ITEM + "]");
+
+        webTestClient.get().uri("/items?from=5")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[" + ITEM + "]");
+        Assertions.assertEquals("from=5&size=10", SERVER.requests("GET", "/items").get(0).getQuery());
+    }
+
+    @Test
+    void getAllItemByOwnerTestServerBadRequest() {
+        SERVER.respond("GET", "/items", 400, "{\"error\":\"Некорректная страница\"}");
+
+        webTestClient.get().uri("/items?from=-1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void search() {
+        SERVER.respond("GET", "/items/search", 200, "[" + ITEM + "]");
+
+        webTestClient.get().uri("/items/search?text=дрель&tag=инструмент")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[" + ITEM + "]");
+        Assertions.assertTrue(SERVER.requests("GET", "/items/search").get(0).getQuery().contains("&tag="));
+    }
+
+    @Test
+    void searchWithFacets() {
+        String result = "{\"items\":[" + ITEM + "],\"facets\":{\"инструмент\":1}}";
+        SERVER.respond("GET", "/items/search", 200, result);
+
+        webTestClient.get().uri("/items/search?text=дрель&facets=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(result);
+        Assertions.assertTrue(SERVER.requests("GET", "/items/search").get(0).getQuery().startsWith("facets=true&"));
+    }
+
+    @Test
+    void searchTestServerErrorIsBadRequest() {
+        SERVER.respond("GET", "/items/search", 500, "{\"error\":\"Индекс недоступен\"}");
+
+        webTestClient.get().uri("/items/search?text=дрель")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void suggest() {
+        SERVER.respond("GET", "/items/suggest", 200, "[\"дрель\",\"дрелька\"]");
+
+        webTestClient.get().uri("/items/suggest?prefix=дре&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[\"дрель\",\"дрелька\"]");
+    }
+
+    @Test
+    void suggestTestWithoutPrefixIsEmpty() {
+        webTestClient.get().uri("/items/suggest")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void createComment() {
+        String comment = "{\"id\":1,\"text\":\"Отличная дрель\",\"authorName\":\"User\"}";
+        SERVER.respond("POST", "/items/1/comment", 200, comment);
+
+        webTestClient.post().uri("/items/1/comment")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"text\":\"Отличная дрель\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(comment);
+    }
+
+    @Test
+    void createCommentTestServerBadRequest() {
+        SERVER.respond("POST", "/items/1/comment", 400, "{\"error\":\"Вещь не была в аренде\"}");
+
+        webTestClient.post().uri("/items/1/comment")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"text\":\"Отличная дрель\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
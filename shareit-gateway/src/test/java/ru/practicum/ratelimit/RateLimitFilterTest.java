@@ -0,0 +1,91 @@
+package ru.practicum.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+class RateLimitFilterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getDefaultLimit().setCapacity(2);
+        properties.getDefaultLimit().setRefillPerSecond(0.01);
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setMethod("POST");
+        rule.setPath("/bookings");
+        rule.setCapacity(1);
+        rule.setRefillPerSecond(0.5);
+        properties.setRules(List.of(rule));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, meterRegistry, new ObjectMapper());
+    }
+
+    @Test
+    void overLimitIsRejectedWithRetryAfter() throws Exception {
+        Assertions.assertEquals(HttpStatus.OK.value(), perform("POST", "/bookings", "1").getStatus());
+
+        MockHttpServletResponse rejected = perform("POST", "/bookings", "1");
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        Assertions.assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertTrue(rejected.getContentAsString().contains("error"));
+        Assertions.assertEquals(1, meterRegistry.counter("gateway.rate-limit.rejected", "route", "POST /bookings").count());
+    }
+
+    @Test
+    void bucketsAreSeparatePerUserAndRoute() throws Exception {
+        perform("POST", "/bookings", "1");
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), perform("POST", "/bookings", "1").getStatus());
+
+        Assertions.assertEquals(HttpStatus.OK.value(), perform("POST", "/bookings", "2").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), perform("GET", "/bookings", "1").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), perform("GET", "/bookings/1", "1").getStatus());
+        Assertions.assertEquals(HttpStatus.OK.value(), perform("GET", "/bookings/2", "1").getStatus());
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), perform("GET", "/bookings/3", "1").getStatus());
+    }
+
+    @Test
+    void unknownPathsShareOneBucketAndTag() throws Exception {
+        perform("GET", "/items/a", "1");
+        perform("GET", "/items/b", "1");
+        MockHttpServletResponse rejected = perform("GET", "/unknown/c", "1");
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        Assertions.assertEquals(1, meterRegistry.find("gateway.rate-limit.rejected").counters().size());
+        Assertions.assertEquals(1, meterRegistry.counter("gateway.rate-limit.rejected", "route", "other").count());
+    }
+
+    @Test
+    void unknownRuleRouteFailsStartup() {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setMethod("POST");
+        rule.setPath("/booking");
+        properties.setRules(List.of(rule));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new RateLimitFilter(properties, meterRegistry, new ObjectMapper()));
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader(REQUEST_HEADER_NAME, userId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
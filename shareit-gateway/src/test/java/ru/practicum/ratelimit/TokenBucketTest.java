@@ -0,0 +1,47 @@
+package ru.practicum.ratelimit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void burstUpToCapacityThenWait() {
+        TokenBucket bucket = new TokenBucket(3, 1, now::get);
+
+        Assertions.assertEquals(0, bucket.tryAcquire());
+        Assertions.assertEquals(0, bucket.tryAcquire());
+        Assertions.assertEquals(0, bucket.tryAcquire());
+        Assertions.assertEquals(SECOND, bucket.tryAcquire());
+        Assertions.assertEquals(SECOND, bucket.tryAcquire());
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, 4, now::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        now.addAndGet(SECOND / 8);
+        Assertions.assertEquals(SECOND / 8, bucket.tryAcquire());
+        now.addAndGet(SECOND / 8);
+        Assertions.assertEquals(0, bucket.tryAcquire());
+        Assertions.assertEquals(SECOND / 4, bucket.tryAcquire());
+    }
+
+    @Test
+    void idleBucketHoldsNoMoreThanCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 10, now::get);
+
+        now.addAndGet(3600 * SECOND);
+        Assertions.assertEquals(0, bucket.tryAcquire());
+        Assertions.assertEquals(0, bucket.tryAcquire());
+        Assertions.assertEquals(SECOND / 10, bucket.tryAcquire());
+    }
+}
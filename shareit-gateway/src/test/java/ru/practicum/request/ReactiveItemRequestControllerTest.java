@@ -0,0 +1,109 @@
+package ru.practicum.request;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import ru.practicum.ReactiveGatewayTest;
+
+import static ru.practicum.constans.Constants.REQUEST_HEADER_NAME;
+
+class ReactiveItemRequestControllerTest extends ReactiveGatewayTest {
+    private static final String REQUEST = "{\"id\":1,\"description\":\"Нужна дрель\",\"items\":[]}";
+
+    @Test
+    void createRequest() {
+        SERVER.respond("POST", "/requests", 200, REQUEST);
+
+        webTestClient.post().uri("/requests")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Нужна дрель\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(REQUEST);
+        Assertions.assertEquals("1", SERVER.requests("POST", "/requests").get(0).getUserId());
+    }
+
+    @Test
+    void createRequestTestNotValidIsNotSentToServer() {
+        webTestClient.post().uri("/requests")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\" \"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void createRequestTestServerBadRequest() {
+        SERVER.respond("POST", "/requests", 400, "{\"error\":\"Некорректный запрос\"}");
+
+        webTestClient.post().uri("/requests")
+                .header(REQUEST_HEADER_NAME, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Нужна дрель\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getRequestById() {
+        SERVER.respond("GET", "/requests/1", 200, REQUEST);
+
+        webTestClient.get().uri("/requests/1")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(REQUEST);
+    }
+
+    @Test
+    void getRequestByIdTestNotFound() {
+        webTestClient.get().uri("/requests/2")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getRequestsByUser() {
+        SERVER.respond("GET", "/requests", 200, "[" + REQUEST + "]");
+
+        webTestClient.get().uri("/requests")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[" + REQUEST + "]");
+    }
+
+    @Test
+    void getRequestsAll() {
+        SERVER.respond("GET", "/requests/all", 200, "[" + REQUEST + "]");
+
+        webTestClient.get().uri("/requests/all?from=0&size=5")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[" + REQUEST + "]");
+        Assertions.assertEquals("from=0&size=5", SERVER.requests("GET", "/requests/all").get(0).getQuery());
+    }
+
+    @Test
+    void getRequestsAllTestWithoutPageIsEmpty() {
+        webTestClient.get().uri("/requests/all")
+                .header(REQUEST_HEADER_NAME, "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void getRequestsTestWithoutUserHeaderIsBadRequest() {
+        webTestClient.get().uri("/requests")
+                .exchange()
+                .expectStatus().isBadRequest();
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.user;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import ru.practicum.ReactiveGatewayTest;
+
+class ReactiveUserControllerTest extends ReactiveGatewayTest {
+    private static final String USER = "{\"id\":1,\"email\":\"user@mail.ru\",\"name\":\"User\"}";
+
+    @Test
+    void createUser() {
+        SERVER.respond("POST", "/users", 200, USER);
+
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"user@mail.ru\",\"name\":\"User\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(USER);
+        Assertions.assertEquals(1, SERVER.requests("POST", "/users").size());
+    }
+
+    @Test
+    void createUserTestNotValidIsNotSentToServer() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"not an email\",\"name\":\"\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.violations.length()").isEqualTo(2);
+        Assertions.assertTrue(SERVER.requests().isEmpty());
+    }
+
+    @Test
+    void updateUser() {
+        SERVER.respond("PATCH", "/users/1", 200, USER);
+
+        webTestClient.patch().uri("/users/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"User\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(USER);
+    }
+
+    @Test
+    void getUserById() {
+        SERVER.respond("GET", "/users/1", 200, USER);
+
+        webTestClient.get().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(USER);
+    }
+
+    @Test
+    void getUserByIdTestNotFound() {
+        webTestClient.get().uri("/users/2")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").exists();
+    }
+
+    @Test
+    void getAllUser() {
+        SERVER.respond("GET", "/users", 200, "[" + USER + "]");
+
+        webTestClient.get().uri("/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[" + USER + "]");
+    }
+
+    @Test
+    void removeUser() {
+        SERVER.respond("DELETE", "/users/1", 200, "");
+
+        webTestClient.delete().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk();
+        Assertions.assertEquals(1, SERVER.requests("DELETE", "/users/1").size());
+    }
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.AppServer;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Сравнивает список бронирований через загрузку сущностей и BookingMapper с проекцией в BookingDto.
+ * Запускать с профилировщиком gc, чтобы видеть gc.alloc.rate.norm — байты на один запрос списка.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingListingBenchmark {
+    @Param({"20"})
+    int size;
+
+    ConfigurableApplicationContext context;
+    BookingRepository bookingRepository;
+    EntityManager entityManager;
+    TransactionTemplate transactionTemplate;
+    long bookerId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppServer.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "logging.level.root=warn")
+                .run();
+        bookingRepository = context.getBean(BookingRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        User owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        User booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        bookerId = booker.getId();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            Item item = itemRepository.save(new Item(0, "Item " + i, "Description " + i, true, owner, null, new HashSet<>()));
+            for (int j = 0; j < 10; j++) {
+                LocalDateTime start = now.minusDays(250).plusDays(i * 10L + j);
+                bookingRepository.save(new Booking(0, start, start.plusHours(12), item, booker, BookingStatus.APPROVED));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDto> entityHydration() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select b from Booking b where b.booker.id = :bookerId order by b.start desc, b.id desc",
+                        Booking.class)
+                .setParameter("bookerId", bookerId)
+                .setMaxResults(size + 1)
+                .getResultList().stream()
+                .limit(size)
+                .map(BookingMapper::toBookingDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<BookingDto> projection() {
+        return transactionTemplate.execute(status -> bookingRepository.findSlice(
+                        BookingSpecifications.of(BookingRole.BOOKER, bookerId, BookingStatus.ALL, LocalDateTime.now(), null),
+                        PageRequest.of(0, size, BookingSpecifications.NEWEST_FIRST))
+                .getContent());
+    }
+}
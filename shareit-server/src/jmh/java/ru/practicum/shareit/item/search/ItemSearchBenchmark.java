@@ -0,0 +1,87 @@
+package ru.practicum.shareit.item.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Точный и нечёткий поиск по сгенерированному каталогу; режим SampleTime печатает перцентили задержки (p0.99).
+ * Запросы с опечаткой получаются заменой одной буквы в середине слова из словаря.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ItemSearchBenchmark {
+    private static final String[] SYLLABLES = {
+            "дре", "ль", "пи", "ла", "мо", "ло", "ток", "от", "вер", "тка", "ка", "ра", "бин", "сто", "лик",
+            "на", "бор", "ключ", "ги", "ря", "пер", "фо", "тор", "ва", "лес", "ни", "ца", "шу", "руп", "ед"};
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000000"})
+    int catalogSize;
+
+    ItemSearchIndex index;
+    String[] queries;
+    String[] queriesWithTypo;
+    int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < vocabulary.length; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int syllables = 2 + random.nextInt(3); syllables > 0; syllables--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            vocabulary[i] = word.toString();
+        }
+        index = new ItemSearchIndex(null);
+        for (long id = 1; id <= catalogSize; id++) {
+            String name = pick(vocabulary, random) + " " + pick(vocabulary, random);
+            String description = String.join(" ", List.of(
+                    pick(vocabulary, random), pick(vocabulary, random), pick(vocabulary, random), pick(vocabulary, random)));
+            index.index(new ItemDto(id, name, description, random.nextInt(10) > 0, 0, null));
+        }
+        queries = new String[QUERY_COUNT];
+        queriesWithTypo = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String word = pick(vocabulary, random);
+            int position = word.length() / 2;
+            queries[i] = word;
+            queriesWithTypo[i] = word.substring(0, position) + "ы" + word.substring(position + 1);
+        }
+    }
+
+    @Benchmark
+    public List<ItemDto> exact() {
+        return index.search(queries[next++ & (QUERY_COUNT - 1)], null, 0, 20, false);
+    }
+
+    @Benchmark
+    public List<ItemDto> fuzzy() {
+        return index.search(queriesWithTypo[next++ & (QUERY_COUNT - 1)], null, 0, 20, true);
+    }
+
+    private static String pick(String[] vocabulary, Random random) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return vocabulary[(int) (skewed * vocabulary.length)];
+    }
+}
@@ -2,12 +2,15 @@ package ru.practicum.shareit.booking;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.constans.Constants;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.List;
 
 @Slf4j
@@ -43,8 +46,13 @@ public class BookingController {
     public List<BookingDto> getAllBookingsByBooker(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
                                                    @RequestParam(defaultValue = "0") int from,
                                                    @RequestParam(defaultValue = "5") int size,
-                                                   @RequestParam(defaultValue = "ALL") String state) {
+                                                   @RequestParam(defaultValue = "ALL") String state,
+                                                   @RequestParam(required = false) String after,
+                                                   HttpServletResponse response) {
         log.info("Выполняется запрос на получение всех бронирований от пользователя под ID: {}, со статусом: {}", userId, state);
+        if (after != null) {
+            return withNextCursor(bookingService.getAllBookingsByBookerAfter(userId, state, after, size), response);
+        }
         return bookingService.getAllBookingsByBooker(userId, state, from, size);
     }
 
@@ -52,8 +60,21 @@ public class BookingController {
     public List<BookingDto> getAllBookingByOwner(@RequestHeader(Constants.REQUEST_HEADER_NAME) long userId,
                                                  @RequestParam(defaultValue = "0") int from,
                                                  @RequestParam(defaultValue = "5") int size,
-                                                 @RequestParam(defaultValue = "ALL") String state) {
+                                                 @RequestParam(defaultValue = "ALL") String state,
+                                                 @RequestParam(required = false) String after,
+                                                 HttpServletResponse response) {
         log.info("Выполняется запрос на получение всех бронирований от владельца под ID: {}, со статусом: {}", userId, state);
+        if (after != null) {
+            return withNextCursor(bookingService.getAllBookingsByOwnerAfter(userId, state, after, size), response);
+        }
         return bookingService.getAllBookingsByOwner(userId, state, from, size);
     }
+
+    private List<BookingDto> withNextCursor(Slice<BookingDto> bookings, HttpServletResponse response) {
+        String nextCursor = BookingCursor.next(bookings);
+        if (nextCursor != null) {
+            response.setHeader(Constants.NEXT_CURSOR_HEADER_NAME, nextCursor);
+        }
+        return bookings.getContent();
+    }
 }
@@ -20,6 +20,14 @@ public class BookingDto {
     private BookingStatus status;
     private UserDto booker;
     private ItemDto item;
+
+    public BookingDto(long id, LocalDateTime start, LocalDateTime end, BookingStatus status,
+                      long bookerId, String bookerEmail, String bookerName,
+                      long itemId, String itemName, String itemDescription, Boolean itemAvailable, Long itemRequestId) {
+        this(id, start, end, status,
+                new UserDto(bookerId, bookerEmail, bookerName),
+                new ItemDto(itemId, itemName, itemDescription, itemAvailable, itemRequestId == null ? 0 : itemRequestId, null));
+    }
 }
 
 
@@ -16,7 +16,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "BOOKINGS")
+@NamedEntityGraph(name = "Booking.withItemAndBooker", attributeNodes = {
+        @NamedAttributeNode("item"),
+        @NamedAttributeNode("booker")
+})
+@Table(name = "BOOKINGS", indexes = {
+        @Index(name = "IDX_BOOKINGS_ITEM_START_END", columnList = "ITEM_ID, BOOKING_START, BOOKING_END"),
+        @Index(name = "IDX_BOOKINGS_BOOKER_START_ID", columnList = "USER_ID, BOOKING_START DESC, BOOKING_ID DESC")
+})
 public class Booking {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,10 +33,10 @@ public class Booking {
     private LocalDateTime start;
     @Column(name = "BOOKING_END")
     private LocalDateTime end;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ITEM_ID")
     private Item item;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User booker;
     @Enumerated(EnumType.ORDINAL)
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+
+public interface BookingQueryRepository {
+
+    Slice<BookingDto> findSlice(Specification<Booking> specification, Pageable pageable);
+}
@@ -1,41 +1,34 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingQueryRepository {
 
-    List<Booking> findByBookerIdAndStartIsAfter(Long bookerId, LocalDateTime current);
+    @EntityGraph("Booking.withItemAndBooker")
+    Optional<Booking> findDetailedById(long id);
 
-    List<Booking> findByBookerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime current1, LocalDateTime current2);
+    @Query(value = "select * from (" +
+            "(select * from BOOKINGS b where b.ITEM_ID = ?1 and b.STATUS <> ?2 and b.BOOKING_START < ?3 " +
+            "order by b.BOOKING_START desc limit 1) " +
+            "union all " +
+            "(select * from BOOKINGS b where b.ITEM_ID = ?1 and b.STATUS <> ?2 and b.BOOKING_START > ?3 " +
+            "order by b.BOOKING_START limit 1)) last_and_next", nativeQuery = true)
+    List<Booking> findLastAndNextByItemId(long itemId, int excludedStatus, LocalDateTime now);
 
-    List<Booking> findByBookerIdAndEndIsBefore(Long bookerId, LocalDateTime current);
+    List<Booking> findByItemIdIn(Collection<Long> itemIds);
 
-    List<Booking> findByBookerId(Long bookerId);
-
-    List<Booking> findByItemId(Long itemId);
-
-    List<Booking> findByItemOwnerId(Long bookerId);
-
-    List<Booking> findByItemOwnerIdAndStartIsAfter(Long bookerId, LocalDateTime current);
-
-    List<Booking> findByItemOwnerIdAndStartIsBeforeAndEndIsAfter(Long bookerId, LocalDateTime current1, LocalDateTime current2);
-
-    List<Booking> findByItemOwnerIdAndEndIsBefore(Long bookerId, LocalDateTime current);
-
-    List<Booking> findByBookerIdAndStatus(Long userId, BookingStatus status);
-
-    List<Booking> findByItemOwnerIdAndStatus(Long userId, BookingStatus status);
+    @Query("select case when count(b) > 0 then true else false end from Booking b " +
+            "where b.item.id = ?1 and b.status <> ?2 and b.start < ?3 and b.end > ?4")
+    boolean existsOverlapping(long itemId, BookingStatus excludedStatus, LocalDateTime end, LocalDateTime start);
 
     List<Booking> findByBookerIdAndItemIdAndEndIsBefore(long userId, long itemId, LocalDateTime currentTime);
-
-    Page<Booking> findByBookerIdOrderByStartDesc(long id, Pageable pageable);
-
-    Page<Booking> findByItemOwnerIdOrderByStartDesc(long id, Pageable pageable);
 }
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+
+@UtilityClass
+public class BookingSpecifications {
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("start"), Sort.Order.desc("id"));
+
+    public static Specification<Booking> of(BookingRole role, long userId, BookingStatus state,
+                                            LocalDateTime now, BookingCursor cursor) {
+        return Specification.where(byRole(role, userId))
+                .and(byState(state, now))
+                .and(after(cursor));
+    }
+
+    public static Specification<Booking> byRole(BookingRole role, long userId) {
+        if (role == BookingRole.OWNER) {
+            return (root, query, builder) -> builder.equal(item(root).get("owner").get("id"), userId);
+        }
+        return (root, query, builder) -> builder.equal(root.get("booker").get("id"), userId);
+    }
+
+    public static Specification<Booking> byState(BookingStatus state, LocalDateTime now) {
+        switch (state) {
+            case ALL:
+                return null;
+            case CURRENT:
+                return (root, query, builder) -> builder.and(
+                        builder.lessThan(root.get("start"), now),
+                        builder.greaterThan(root.get("end"), now));
+            case FUTURE:
+                return (root, query, builder) -> builder.greaterThan(root.get("start"), now);
+            case PAST:
+                return (root, query, builder) -> builder.lessThan(root.get("end"), now);
+            default:
+                return (root, query, builder) -> builder.equal(root.get("status"), state);
+        }
+    }
+
+    public static Specification<Booking> after(BookingCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.or(
+                builder.lessThan(root.get("start"), cursor.getStart()),
+                builder.and(
+                        builder.equal(root.get("start"), cursor.getStart()),
+                        builder.lessThan(root.get("id"), cursor.getId())));
+    }
+
+    @SuppressWarnings("unchecked")
+    static Join<Booking, Item> item(Root<Booking> root) {
+        for (Join<Booking, ?> join : root.getJoins()) {
+            if (join.getAttribute().getName().equals("item") && join.getJoinType() == JoinType.INNER) {
+                return (Join<Booking, Item>) join;
+            }
+        }
+        return root.join("item");
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.data.domain.Slice;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
 
@@ -16,4 +17,8 @@ public interface BookingService {
     List<BookingDto> getAllBookingsByBooker(long userId, String state, int from, int size);
 
     List<BookingDto> getAllBookingsByOwner(long userId, String state, int from, int size);
+
+    Slice<BookingDto> getAllBookingsByBookerAfter(long userId, String state, String after, int size);
+
+    Slice<BookingDto> getAllBookingsByOwnerAfter(long userId, String state, String after, int size);
 }
@@ -4,18 +4,23 @@ import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemDetailsCache;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingSpecifications;
 import ru.practicum.shareit.exception.DataNotFound;
 import ru.practicum.shareit.exception.NotFoundBookingStatusException;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.user.userDto.UserMapper;
@@ -23,9 +28,7 @@ import ru.practicum.shareit.user.userDto.UserMapper;
 import javax.persistence.EntityNotFoundException;
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,6 +37,7 @@ public class BookingServiceImpl implements BookingService {
     private BookingRepository bookingRepository;
     private ItemRepository itemRepository;
     private UserService userService;
+    private ItemDetailsCache itemDetailsCache;
 
     @Override
     @Transactional
@@ -42,12 +46,13 @@ public class BookingServiceImpl implements BookingService {
                 bookingDto.getStart().equals(bookingDto.getEnd())) {
             throw new IllegalArgumentException("Неверно заданы временные промежутки использования вещи");
         }
-        List<Booking> allBookingByCurrentItemId = bookingRepository.findByItemId(bookingDto.getItemId());
-        allBookingByCurrentItemId
-                .forEach(b -> {
-                    if (bookingDto.getStart().isAfter(b.getStart()) && bookingDto.getStart().isBefore(b.getEnd()))
-                        throw new IllegalArgumentException("Имеется бронирование на данный промежуток времени");
-                });
+        if (bookingRepository.existsOverlapping(
+                bookingDto.getItemId(),
+                BookingStatus.REJECTED,
+                bookingDto.getEnd(),
+                bookingDto.getStart())) {
+            throw new IllegalArgumentException("Имеется бронирование на данный промежуток времени");
+        }
         User currentUser = UserMapper.toUser(userService.getUserById(userId));
         Item currentItem = itemRepository.getReferenceById(bookingDto.getItemId());
         if (currentItem.getOwner().getId() == currentUser.getId()) {
@@ -56,14 +61,16 @@ public class BookingServiceImpl implements BookingService {
         if (!currentItem.getAvailable()) {
             throw new IllegalArgumentException("Вещь недоступна для бронирования");
         }
-        Booking currentBooking = BookingMapper.toBookingForCreating(bookingDto, currentUser, currentItem);
-        return BookingMapper.toBookingDto(bookingRepository.save(currentBooking));
+        Booking currentBooking = bookingRepository.save(BookingMapper.toBookingForCreating(bookingDto, currentUser, currentItem));
+        itemDetailsCache.invalidate(currentItem.getId());
+        return BookingMapper.toBookingDto(currentBooking);
     }
 
     @Override
     @Transactional
     public BookingDto confirmationBooking(long userId, long bookingId, boolean approved) {
-        Booking currentBooking = bookingRepository.getReferenceById(bookingId);
+        Booking currentBooking = bookingRepository.findDetailedById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException("Бронирование под ID: " + bookingId + " не найдено"));
         Item currentItem = currentBooking.getItem();
         if (currentBooking.getBooker().getId() == userId) {
             throw new EntityNotFoundException("Изменять статус заявки может только владелец");
@@ -75,20 +82,25 @@ public class BookingServiceImpl implements BookingService {
             if (currentBooking.getStatus().equals(BookingStatus.APPROVED)) {
                 throw new IllegalArgumentException("Бронирование уже одобренно");
             } else {
+                boolean wasIndexed = !currentBooking.getStatus().equals(BookingStatus.REJECTED);
                 currentBooking.setStatus(BookingStatus.APPROVED);
                 bookingRepository.save(currentBooking);
+                if (!wasIndexed) {
+                            }
             }
         } else {
             currentBooking.setStatus(BookingStatus.REJECTED);
             bookingRepository.save(currentBooking);
         }
+        itemDetailsCache.invalidate(currentItem.getId());
         return BookingMapper.toBookingDto(currentBooking);
     }
 
     @Override
     @Transactional
     public BookingDto getBookingById(long userId, long bookingId) {
-        Booking currentBooking = bookingRepository.getReferenceById(bookingId);
+        Booking currentBooking = bookingRepository.findDetailedById(bookingId)
+                .orElseThrow(() -> new EntityNotFoundException("Бронирование под ID: " + bookingId + " не найдено"));
         Item currentItem = currentBooking.getItem();
         if (currentItem.getOwner().getId() != userId && currentBooking.getBooker().getId() != userId) {
             throw new DataNotFound("Текущее бронирование и вещь не принадлежит пользователю");
@@ -96,10 +108,32 @@ public class BookingServiceImpl implements BookingService {
         return BookingMapper.toBookingDto(currentBooking);
     }
 
-    @SneakyThrows
     @Override
     @Transactional
     public List<BookingDto> getAllBookingsByBooker(long userId, String state, int from, int size) {
+        return getAllBookings(BookingRole.BOOKER, userId, state, from, size);
+    }
+
+    @Override
+    @Transactional
+    public List<BookingDto> getAllBookingsByOwner(long userId, String state, int from, int size) {
+        return getAllBookings(BookingRole.OWNER, userId, state, from, size);
+    }
+
+    @Override
+    @Transactional
+    public Slice<BookingDto> getAllBookingsByBookerAfter(long userId, String state, String after, int size) {
+        return getAllBookingsAfter(BookingRole.BOOKER, userId, state, after, size);
+    }
+
+    @Override
+    @Transactional
+    public Slice<BookingDto> getAllBookingsByOwnerAfter(long userId, String state, String after, int size) {
+        return getAllBookingsAfter(BookingRole.OWNER, userId, state, after, size);
+    }
+
+    @SneakyThrows
+    private List<BookingDto> getAllBookings(BookingRole role, long userId, String state, int from, int size) {
         userService.getUserById(userId);
         if (from == 0 && size == 0) {
             throw new IllegalArgumentException("Неверный индекс начального элемента и размера страницы");
@@ -110,82 +144,30 @@ public class BookingServiceImpl implements BookingService {
         if (from < 0) {
             throw new IllegalArgumentException("Неверный индекс начального элемента");
         }
-        if (!BookingStatus.isInEnum(state, BookingStatus.class)) {
-            throw new NotFoundBookingStatusException("Unknown state: " + state);
-        }
-        LocalDateTime currentTime = LocalDateTime.now();
-        List<Booking> currentBookingList;
-        if (BookingStatus.valueOf(state) == BookingStatus.ALL && from > 0) {
-            int currentPage = from / size;
-            Pageable pageable = PageRequest.of(currentPage, size);
-            return bookingRepository.findByBookerIdOrderByStartDesc(userId, pageable).stream()
-                    .map(BookingMapper::toBookingDto)
-                    .collect(Collectors.toList());
-        }
-        if (BookingStatus.valueOf(state) == BookingStatus.ALL) {
-            currentBookingList = bookingRepository.findByBookerId(userId);
-        } else if (BookingStatus.valueOf(state) == BookingStatus.CURRENT) {
-            currentBookingList = bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsAfter(
-                    userId,
-                    currentTime,
-                    currentTime);
-        } else if (BookingStatus.valueOf(state) == BookingStatus.FUTURE) {
-            currentBookingList = bookingRepository.findByBookerIdAndStartIsAfter(userId, currentTime);
-        } else if (BookingStatus.valueOf(state) == BookingStatus.PAST) {
-            currentBookingList = bookingRepository.findByBookerIdAndEndIsBefore(userId, currentTime);
-        } else {
-            currentBookingList = bookingRepository.findByBookerIdAndStatus(userId, BookingStatus.valueOf(state));
-        }
-        return currentBookingList.stream()
-                .sorted(Comparator.comparing(Booking::getStart).reversed())
-                .map(BookingMapper::toBookingDto)
-                .collect(Collectors.toList());
+        BookingStatus status = parseState(state);
+        return bookingRepository.findSlice(
+                        BookingSpecifications.of(role, userId, status, LocalDateTime.now(), null),
+                        new OffsetPageRequest(from, size, BookingSpecifications.NEWEST_FIRST))
+                .getContent();
     }
 
     @SneakyThrows
-    @Override
-    @Transactional
-    public List<BookingDto> getAllBookingsByOwner(long userId, String state, int from, int size) {
+    private Slice<BookingDto> getAllBookingsAfter(BookingRole role, long userId, String state, String after, int size) {
         userService.getUserById(userId);
-        if (from == 0 && size == 0) {
-            throw new IllegalArgumentException("Неверный индекс начального элемента и размера страницы");
-        }
         if (size <= 0) {
             throw new IllegalArgumentException("Неверный индекс размера страницы");
         }
-        if (from < 0) {
-            throw new IllegalArgumentException("Неверный индекс начального элемента");
-        }
+        BookingStatus status = parseState(state);
+        BookingCursor cursor = BookingCursor.decode(after);
+        return bookingRepository.findSlice(
+                        BookingSpecifications.of(role, userId, status, LocalDateTime.now(), cursor),
+                        PageRequest.of(0, size, BookingSpecifications.NEWEST_FIRST));
+    }
+
+    private BookingStatus parseState(String state) throws NotFoundBookingStatusException {
         if (!BookingStatus.isInEnum(state, BookingStatus.class)) {
             throw new NotFoundBookingStatusException("Unknown state: " + state);
         }
-        LocalDateTime currentTime = LocalDateTime.now();
-        List<Booking> currentBookingList;
-        if (BookingStatus.valueOf(state) == BookingStatus.ALL && from > 0) {
-            int currentPage = from / size;
-            System.out.println(currentPage);
-            Pageable pageable = PageRequest.of(currentPage, size);
-            return bookingRepository.findByItemOwnerIdOrderByStartDesc(userId, pageable).stream()
-                    .map(BookingMapper::toBookingDto)
-                    .collect(Collectors.toList());
-        }
-        if (BookingStatus.valueOf(state) == BookingStatus.ALL) {
-            currentBookingList = bookingRepository.findByItemOwnerId(userId);
-        } else if (BookingStatus.valueOf(state) == BookingStatus.CURRENT) {
-            currentBookingList = bookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsAfter(
-                    userId,
-                    currentTime,
-                    currentTime);
-        } else if (BookingStatus.valueOf(state) == BookingStatus.FUTURE) {
-            currentBookingList = bookingRepository.findByItemOwnerIdAndStartIsAfter(userId, currentTime);
-        } else if (BookingStatus.valueOf(state) == BookingStatus.PAST) {
-            currentBookingList = bookingRepository.findByItemOwnerIdAndEndIsBefore(userId, currentTime);
-        } else {
-            currentBookingList = bookingRepository.findByItemOwnerIdAndStatus(userId, BookingStatus.valueOf(state));
-        }
-        return currentBookingList.stream()
-                .sorted(Comparator.comparing(Booking::getStart).reversed())
-                .map(BookingMapper::toBookingDto)
-                .collect(Collectors.toList());
+        return BookingStatus.valueOf(state);
     }
 }
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.deadline;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+
+/**
+ * Крайний срок текущего запроса, переданный гейтвеем в заголовке X-Request-Deadline-Ms.
+ */
+@UtilityClass
+public class Deadline {
+    private final ThreadLocal<Long> deadlineNanos = new ThreadLocal<>();
+
+    void start(long remainingMillis) {
+        deadlineNanos.set(System.nanoTime() + Duration.ofMillis(remainingMillis).toNanos());
+    }
+
+    void clear() {
+        deadlineNanos.remove();
+    }
+
+    /**
+     * @return сколько миллисекунд осталось до крайнего срока или null, если срок не задан
+     */
+    public Long remainingMillis() {
+        Long deadline = deadlineNanos.get();
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.practicum.shareit.exception.Violation;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static ru.practicum.shareit.constans.Constants.DEADLINE_HEADER_NAME;
+
+/**
+ * Запоминает крайний срок запроса из заголовка гейтвея; запрос с уже истёкшим сроком не выполняется.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(DEADLINE_HEADER_NAME);
+        if (header == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long remainingMillis;
+        try {
+            remainingMillis = Long.parseLong(header);
+        } catch (NumberFormatException e) {
+            log.info("Некорректный заголовок {}: {}", DEADLINE_HEADER_NAME, header);
+            chain.doFilter(request, response);
+            return;
+        }
+        if (remainingMillis <= 0) {
+            response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new Violation("Истёк крайний срок запроса"));
+            return;
+        }
+        Deadline.start(remainingMillis);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.deadline;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Ограничивает таймаут транзакции временем, оставшимся до крайнего срока запроса.
+ * Hibernate передаёт остаток таймаута транзакции в JDBC как таймаут каждого запроса к базе,
+ * а Spring не создаёт новые запросы после истечения срока, так что работа прекращается вместе с ожиданием гейтвея.
+ */
+public class DeadlineTransactionManager extends JpaTransactionManager {
+
+    public DeadlineTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Long remainingMillis = Deadline.remainingMillis();
+        if (remainingMillis == null) {
+            return timeout;
+        }
+        if (remainingMillis <= 0) {
+            throw new TransactionTimedOutException("Истёк крайний срок запроса");
+        }
+        int remainingSeconds = (int) ((remainingMillis + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
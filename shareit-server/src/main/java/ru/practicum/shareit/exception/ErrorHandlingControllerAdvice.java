@@ -1,8 +1,10 @@
 package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -52,6 +54,13 @@ public class ErrorHandlingControllerAdvice {
         return new ResponseEntity<>(new Violation(e.getMessage()), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler({TransactionTimedOutException.class, QueryTimeoutException.class})
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public Violation onDeadlineExceeded(RuntimeException e) {
+        log.info("Получен статус 504 Gateway Timeout {}", e.getMessage());
+        return new Violation("Истёк крайний срок запроса");
+    }
+
     @ExceptionHandler(UndeclaredThrowableException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Violation bookingStatusNotFoundOnTransactional(UndeclaredThrowableException e) {
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.util.List;
@@ -46,15 +47,38 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemDtoWithBookingAndComments> getAllItemByOwner(@RequestHeader(REQUEST_HEADER_NAME) long userId) {
+    public List<ItemDtoWithBookingAndComments> getAllItemByOwner(@RequestHeader(REQUEST_HEADER_NAME) long userId,
+                                                                 @RequestParam(defaultValue = "0") int from,
+                                                                 @RequestParam(defaultValue = "10") int size) {
         log.info("Выполняется запрос получения всех вещей пользователя под ID: {}", userId);
-        return itemService.getAllItemByOwner(userId);
+        return itemService.getAllItemByOwner(userId, from, size);
     }
 
     @GetMapping("/search")
-    public List<ItemDto> searchByNameAndDescription(@RequestParam String text) {
-        log.info("Выполняется запрос поиска по имени и описанию. Текст запроса: {}", text);
-        return itemService.search(text);
+    public List<ItemDto> searchByNameAndDescription(@RequestParam(defaultValue = "") String text,
+                                                    @RequestParam(required = false) String tag,
+                                                    @RequestParam(defaultValue = "0") int from,
+                                                    @RequestParam(defaultValue = "10") int size,
+                                                    @RequestParam(defaultValue = "false") boolean fuzzy) {
+        log.info("Выполняется запрос поиска по имени и описанию. Текст запроса: {}, категория: {}", text, tag);
+        return itemService.search(text, tag, from, size, fuzzy);
+    }
+
+    @GetMapping(value = "/search", params = "facets=true")
+    public ItemSearchResultDto searchWithFacets(@RequestParam(defaultValue = "") String text,
+                                                @RequestParam(required = false) String tag,
+                                                @RequestParam(defaultValue = "0") int from,
+                                                @RequestParam(defaultValue = "10") int size,
+                                                @RequestParam(defaultValue = "false") boolean fuzzy) {
+        log.info("Выполняется запрос поиска со счётчиками категорий. Текст запроса: {}, категория: {}", text, tag);
+        return itemService.searchWithFacets(text, tag, from, size, fuzzy);
+    }
+
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestParam String prefix,
+                                @RequestParam(defaultValue = "10") int size) {
+        log.info("Выполняется запрос подсказок по префиксу: {}", prefix);
+        return itemService.suggest(prefix, size);
     }
 
     @PostMapping("/{itemId}/comment")
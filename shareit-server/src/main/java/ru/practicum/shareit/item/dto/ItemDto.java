@@ -1,9 +1,11 @@
 package ru.practicum.shareit.item.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Set;
 
 @Builder
 @Data
@@ -14,4 +16,6 @@ public class ItemDto {
     private String description;
     private Boolean available;
     private long requestId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Set<String> tags;
 }
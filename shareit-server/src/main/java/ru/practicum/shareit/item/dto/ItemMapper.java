@@ -7,28 +7,23 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @UtilityClass
 public class ItemMapper {
 
     public ItemDto toItemDto(Item item) {
-        if (item.getItemRequest() == null) {
-            return new ItemDto(
-                    item.getId(),
-                    item.getName(),
-                    item.getDescription(),
-                    item.getAvailable(),
-                    0
-            );
-        }
-        return new ItemDto(
-                item.getId(),
-                item.getName(),
-                item.getDescription(),
-                item.getAvailable(),
-                item.getItemRequest().getId()
-        );
+        return toItemDto(item, null);
+    }
+
+    public ItemDto toItemDtoWithTags(Item item) {
+        return toItemDto(item, new TreeSet<>(item.getTags()));
     }
 
     public Item toItem(ItemDto itemDto, User owner, ItemRequest itemRequest) {
@@ -38,7 +33,36 @@ public class ItemMapper {
                 itemDto.getDescription(),
                 itemDto.getAvailable(),
                 owner,
-                itemRequest
+                itemRequest,
+                toTags(itemDto.getTags())
+        );
+    }
+
+    public Set<String> toTags(Set<String> tags) {
+        if (tags == null) {
+            return new HashSet<>();
+        }
+        return tags.stream()
+                .map(ItemMapper::toTag)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    public String toTag(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return null;
+        }
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private ItemDto toItemDto(Item item, Set<String> tags) {
+        return new ItemDto(
+                item.getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getAvailable(),
+                item.getItemRequest() == null ? 0 : item.getItemRequest().getId(),
+                tags
         );
     }
 
@@ -2,17 +2,22 @@ package ru.practicum.shareit.item.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.*;
+import java.util.HashSet;
+import java.util.Set;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "ITEMS")
+@Table(name = "ITEMS", indexes = @Index(name = "IDX_ITEMS_OWNER", columnList = "USER_ID"))
 public class Item {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,10 +26,18 @@ public class Item {
     private String name;
     private String description;
     private Boolean available;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User owner;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ITEM_REQUEST_ID")
     private ItemRequest itemRequest;
+    @ElementCollection
+    @CollectionTable(name = "ITEM_TAGS", joinColumns = @JoinColumn(name = "ITEM_ID"),
+            indexes = @Index(name = "IDX_ITEM_TAGS_TAG", columnList = "TAG"))
+    @Column(name = "TAG")
+    @BatchSize(size = 1000)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<String> tags = new HashSet<>();
 }
@@ -1,18 +1,16 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findItemByOwnerId(long id);
-
-    @Query(" select i from Item i " +
-            "where upper(i.name) like upper(concat('%', ?1, '%')) " +
-            " or upper(i.description) like upper(concat('%', ?1, '%'))")
-    List<Item> searchByNameAndDescription(String text);
+    List<Item> findItemByOwnerId(long id, Pageable pageable);
 
     List<Item> findItemByItemRequestId(long id);
+
+    List<Item> findItemByItemRequestIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,392 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.transaction.AfterCommit;
+
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Инвертированный индекс по названию и описанию вещей.
+ * Слова индекса и запроса приводятся к основе русским стеммером, поэтому «дрели» находит «дрель».
+ * Слово запроса совпадает с термином индекса целиком или, начиная с MIN_PREFIX_LENGTH букв, как префикс;
+ * вещь должна содержать все слова запроса.
+ * Релевантность — сумма весов поля (название весит больше описания), умноженных на idf термина.
+ * В нечётком режиме слово совпадает и с терминами на расстоянии Левенштейна 1 (для слов от 3 букв)
+ * или 2 (от 6 букв), кандидаты ищутся обходом префиксного дерева словаря.
+ * И префикс, и нечёткое слово раскрываются не больше чем в MAX_EXPANSIONS терминов (самые частые и самые близкие),
+ * чтобы задержка не росла вместе со словарём.
+ * Подсказки по префиксу берутся из префиксного дерева слов названий доступных вещей.
+ * <p>
+ * Каждая версия вещи получает новый внутренний номер документа, старая версия только помечается удалённой,
+ * поэтому списки вхождений остаются отсортированными массивами. Когда удалённых становится больше половины,
+ * индекс пересобирается из живых документов.
+ * Номера живых доступных документов лежат в сжатой битовой карте: вхождения фильтруются по ней до подсчёта
+ * релевантности, и недоступные вещи не доходят ни до слияния списков, ни до ItemDto. idf и выбор терминов
+ * при раскрытии префикса тоже считаются только по живым доступным документам.
+ * Так же устроены категории: у каждой своя битовая карта живых документов. Фильтр по категории сужает
+ * карту, по которой фильтруются вхождения, а число вещей категории среди найденных — мощность пересечения
+ * её карты с картой результата, без запросов к базе.
+ * Индекс хранит копии ItemDto и строится из базы при старте; изменения других узлов он не видит.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final double FUZZY_MATCH_FACTOR = 0.5;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_EXPANSIONS = 50;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int COMPACTION_MIN_DELETED = 1000;
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble((Hit hit) -> hit.score)
+            .reversed()
+            .thenComparingLong(hit -> hit.itemId);
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docByItemId = new HashMap<>();
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+    private ItemDto[] documents = new ItemDto[1024];
+    private int maxDoc;
+    private int deleted;
+    private RoaringBitmap availableDocs = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> tagDocs = new HashMap<>();
+    private RadixTrie vocabulary = new RadixTrie();
+    private RadixTrie nameTerms = new RadixTrie();
+    private List<ItemDto> updatesDuringRebuild;
+
+    public ItemSearchIndex(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    /**
+     * Изменения, закоммиченные во время чтения снимка из базы, складываются в очередь и применяются
+     * поверх снимка, иначе снимок, прочитанный раньше, затёр бы их до следующей пересборки.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<ItemDto> items = new ArrayList<>();
+        Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+        Slice<Item> batch;
+        do {
+            batch = itemRepository.findAll(pageable);
+            batch.forEach(item -> items.add(ItemMapper.toItemDtoWithTags(item)));
+            pageable = batch.nextPageable();
+        } while (batch.hasNext());
+        lock.writeLock().lock();
+        try {
+            reset(items);
+            updatesDuringRebuild.forEach(this::replace);
+            log.info("Поисковый индекс вещей построен, проиндексировано вещей: {}, изменений во время сборки: {}",
+                    items.size(), updatesDuringRebuild.size());
+            updatesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(ItemDto item) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (updatesDuringRebuild != null) {
+                    updatesDuringRebuild.add(item);
+                }
+                replace(item);
+                if (deleted > COMPACTION_MIN_DELETED && deleted > maxDoc / 2) {
+                    reset(liveDocuments());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<ItemDto> search(String text, String tag, int from, int size, boolean fuzzy) {
+        List<String> queryTerms = distinctTerms(text);
+        if (queryTerms.isEmpty() && tag == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return top(match(queryTerms, filter(tag), fuzzy), from, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Поиск с подсчётом вещей по категориям. Счётчики считаются по результату без фильтра по категории,
+     * чтобы рядом с выбранной категорией были видны и остальные. Пустой текст без категории
+     * возвращает счётчики по всем доступным вещам и пустой список вещей.
+     */
+    public ItemSearchResultDto searchWithFacets(String text, String tag, int from, int size, boolean fuzzy) {
+        List<String> queryTerms = distinctTerms(text);
+        lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty()) {
+                ScoredDocs matches = tag == null ? ScoredDocs.EMPTY : ScoredDocs.of(filter(tag));
+                return new ItemSearchResultDto(top(matches, from, size), facets(availableDocs));
+            }
+            ScoredDocs matches = match(queryTerms, availableDocs, fuzzy);
+            Map<String, Integer> facets = facets(matches.toBitmap());
+            if (tag != null) {
+                matches = matches.filter(tagDocs.getOrDefault(tag, new RoaringBitmap()));
+            }
+            return new ItemSearchResultDto(top(matches, from, size), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        List<String> tokens = Tokenizer.tokenize(prefix);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return nameTerms.suggest(tokens.get(tokens.size() - 1), size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ScoredDocs match(List<String> queryTerms, RoaringBitmap filter, boolean fuzzy) {
+        if (queryTerms.isEmpty()) {
+            return ScoredDocs.of(filter);
+        }
+        ScoredDocs matches = match(queryTerms.get(0), filter, fuzzy);
+        for (String queryTerm : queryTerms.subList(1, queryTerms.size())) {
+            if (matches.size() == 0) {
+                break;
+            }
+            matches = matches.intersect(match(queryTerm, filter, fuzzy));
+        }
+        return matches;
+    }
+
+    private ScoredDocs match(String queryTerm, RoaringBitmap filter, boolean fuzzy) {
+        List<ScoredDocs> matches = new ArrayList<>();
+        Postings exact = postings.get(queryTerm);
+        if (exact != null) {
+            matches.add(exact.score(idf(exact), filter));
+        }
+        if (queryTerm.length() >= MIN_PREFIX_LENGTH) {
+            postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).values().stream()
+                    .filter(termPostings -> termPostings.liveSize() > 0)
+                    .sorted(Comparator.comparingInt(Postings::liveSize).reversed())
+                    .limit(MAX_EXPANSIONS)
+                    .forEach(termPostings -> matches.add(termPostings.score(idf(termPostings) * PREFIX_MATCH_FACTOR, filter)));
+        }
+        int maxDistance = maxDistance(queryTerm);
+        if (fuzzy && maxDistance > 0) {
+            vocabulary.withinDistance(queryTerm, maxDistance).entrySet().stream()
+                    .filter(term -> term.getValue() > 0)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(MAX_EXPANSIONS)
+                    .forEach(term -> {
+                        Postings termPostings = postings.get(term.getKey());
+                        double factor = Math.pow(FUZZY_MATCH_FACTOR, term.getValue());
+                        matches.add(termPostings.score(idf(termPostings) * factor, filter));
+                    });
+        }
+        return ScoredDocs.union(matches);
+    }
+
+    private RoaringBitmap filter(String tag) {
+        if (tag == null) {
+            return availableDocs;
+        }
+        RoaringBitmap docs = tagDocs.get(tag);
+        return docs == null ? new RoaringBitmap() : RoaringBitmap.and(availableDocs, docs);
+    }
+
+    private Map<String, Integer> facets(RoaringBitmap resultDocs) {
+        Map<String, Integer> facets = new LinkedHashMap<>();
+        tagDocs.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), RoaringBitmap.andCardinality(entry.getValue(), resultDocs)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> facets.put(entry.getKey(), entry.getValue()));
+        return facets;
+    }
+
+    private double idf(Postings termPostings) {
+        return Math.log(1 + (double) availableDocs.getCardinality() / Math.max(1, termPostings.liveSize()));
+    }
+
+    private static int maxDistance(String queryTerm) {
+        if (queryTerm.length() < 3) {
+            return 0;
+        }
+        return queryTerm.length() < 6 ? 1 : 2;
+    }
+
+    private List<ItemDto> top(ScoredDocs matches, int from, int size) {
+        long limit = (long) from + size;
+        PriorityQueue<Hit> heap = new PriorityQueue<>(RANKING.reversed());
+        for (int i = 0; i < matches.size(); i++) {
+            ItemDto item = documents[matches.doc(i)];
+            double score = matches.score(i);
+            if (heap.size() < limit) {
+                heap.add(new Hit(score, item));
+            } else if (score > heap.peek().score || (score == heap.peek().score && item.getId() < heap.peek().itemId)) {
+                heap.poll();
+                heap.add(new Hit(score, item));
+            }
+        }
+        if (heap.size() <= from) {
+            return List.of();
+        }
+        List<ItemDto> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().item);
+        }
+        Collections.reverse(result);
+        return result.subList(from, result.size());
+    }
+
+    private void replace(ItemDto item) {
+        remove(item.getId());
+        add(item);
+    }
+
+    private void add(ItemDto item) {
+        int doc = maxDoc++;
+        if (doc == documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        documents[doc] = item;
+        docByItemId.put(item.getId(), doc);
+        Map<String, Integer> weights = termWeights(item);
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new Postings()).add(doc, weight, available));
+        weights.keySet().forEach(vocabulary::add);
+        tags(item).forEach(tag -> tagDocs.computeIfAbsent(tag, key -> new RoaringBitmap()).add(doc));
+        if (available) {
+            availableDocs.add(doc);
+            Tokenizer.tokenize(item.getName()).stream().distinct().forEach(nameTerms::add);
+        }
+    }
+
+    private void remove(long itemId) {
+        Integer doc = docByItemId.remove(itemId);
+        if (doc == null) {
+            return;
+        }
+        ItemDto item = documents[doc];
+        documents[doc] = null;
+        availableDocs.remove(doc);
+        tags(item).forEach(tag -> {
+            RoaringBitmap docs = tagDocs.get(tag);
+            docs.remove(doc);
+            if (docs.isEmpty()) {
+                tagDocs.remove(tag);
+            }
+        });
+        deleted++;
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        termWeights(item).keySet().forEach(term -> {
+            vocabulary.remove(term);
+            if (available) {
+                postings.get(term).removeLive();
+            }
+        });
+        if (available) {
+            Tokenizer.tokenize(item.getName()).stream().distinct().forEach(nameTerms::remove);
+        }
+    }
+
+    private List<ItemDto> liveDocuments() {
+        List<ItemDto> items = new ArrayList<>(docByItemId.size());
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (documents[doc] != null) {
+                items.add(documents[doc]);
+            }
+        }
+        return items;
+    }
+
+    private void reset(List<ItemDto> items) {
+        docByItemId.clear();
+        postings.clear();
+        documents = new ItemDto[Math.max(1024, items.size())];
+        maxDoc = 0;
+        deleted = 0;
+        availableDocs = new RoaringBitmap();
+        tagDocs.clear();
+        vocabulary = new RadixTrie();
+        nameTerms = new RadixTrie();
+        items.forEach(this::add);
+    }
+
+    private static Map<String, Integer> termWeights(ItemDto item) {
+        Map<String, Integer> weights = new HashMap<>();
+        terms(item.getName()).forEach(term -> weights.merge(term, NAME_WEIGHT, Integer::sum));
+        terms(item.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    private static Set<String> tags(ItemDto item) {
+        return item.getTags() == null ? Set.of() : item.getTags();
+    }
+
+    private static List<String> distinctTerms(String text) {
+        return terms(text).stream().distinct().collect(Collectors.toList());
+    }
+
+    private static List<String> terms(String text) {
+        return Tokenizer.tokenize(text).stream()
+                .map(RussianStemmer::stem)
+                .collect(Collectors.toList());
+    }
+
+    private static final class Hit {
+        private final double score;
+        private final long itemId;
+        private final ItemDto item;
+
+        private Hit(double score, ItemDto item) {
+            this.score = score;
+            this.itemId = item.getId();
+            this.item = item;
+        }
+    }
+}
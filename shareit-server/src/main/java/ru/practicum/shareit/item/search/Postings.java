@@ -0,0 +1,52 @@
+package ru.practicum.shareit.item.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+
+/**
+ * Вхождения термина: номера документов по возрастанию и вес термина в каждом из них.
+ * Номера документов только растут, поэтому добавление — запись в конец массива.
+ * Удалённые и недоступные документы остаются в массиве до пересборки, поэтому для релевантности
+ * отдельно считается число живых доступных документов с термином.
+ */
+class Postings {
+    private int[] docs = new int[2];
+    private int[] weights = new int[2];
+    private int size;
+    private int liveSize;
+
+    void add(int doc, int weight, boolean live) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            weights = Arrays.copyOf(weights, size * 2);
+        }
+        docs[size] = doc;
+        weights[size] = weight;
+        size++;
+        if (live) {
+            liveSize++;
+        }
+    }
+
+    void removeLive() {
+        liveSize--;
+    }
+
+    int liveSize() {
+        return liveSize;
+    }
+
+    ScoredDocs score(double factor, RoaringBitmap filter) {
+        int[] resultDocs = new int[size];
+        double[] scores = new double[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.contains(docs[i])) {
+                resultDocs[count] = docs[i];
+                scores[count++] = weights[i] * factor;
+            }
+        }
+        return new ScoredDocs(resultDocs, scores, count);
+    }
+}
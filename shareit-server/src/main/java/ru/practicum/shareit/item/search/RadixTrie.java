@@ -0,0 +1,234 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Сжатое префиксное дерево терминов со счётчиками.
+ * Каждый узел помнит максимальный счётчик в своём поддереве, поэтому самые частые продолжения
+ * префикса находятся обходом «лучший первым» без перебора всего поддерева.
+ * Нечёткий поиск спускается по дереву, считая строку матрицы Левенштейна на каждый символ,
+ * и отсекает ветку, как только минимум строки превышает допустимое расстояние.
+ * Класс не потокобезопасен, синхронизацию обеспечивает владелец.
+ */
+class RadixTrie {
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.<Candidate>comparingInt(candidate -> candidate.count)
+            .reversed()
+            .thenComparing(candidate -> candidate.text)
+            .thenComparing(candidate -> candidate.node != null);
+
+    private final Node root = new Node("");
+
+    void add(String term) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < term.length()) {
+            Node child = node.children.get(term.charAt(position));
+            if (child == null) {
+                child = new Node(term.substring(position));
+                node.children.put(term.charAt(position), child);
+                position = term.length();
+            } else {
+                int common = commonPrefixLength(child.label, term, position);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                position += common;
+            }
+            node = child;
+            path.add(node);
+        }
+        node.count++;
+        updateMaxCounts(path);
+    }
+
+    void remove(String term) {
+        List<Node> path = find(term);
+        if (path == null) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        node.count--;
+        for (int i = path.size() - 1; i > 0; i--) {
+            compact(path.get(i - 1), path.get(i));
+        }
+        updateMaxCounts(path);
+    }
+
+    List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        StringBuilder text = new StringBuilder();
+        int position = 0;
+        while (position < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(position));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (common < child.label.length() && position + common < prefix.length()) {
+                return List.of();
+            }
+            text.append(child.label);
+            position += common;
+            node = child;
+        }
+        List<String> result = new ArrayList<>(limit);
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        queue.add(new Candidate(text.toString(), node.maxCount, node));
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.node == null) {
+                result.add(candidate.text);
+                continue;
+            }
+            if (candidate.node.count > 0) {
+                queue.add(new Candidate(candidate.text, candidate.node.count, null));
+            }
+            for (Node child : candidate.node.children.values()) {
+                queue.add(new Candidate(candidate.text + child.label, child.maxCount, child));
+            }
+        }
+        return result;
+    }
+
+    Map<String, Integer> withinDistance(String term, int maxDistance) {
+        Map<String, Integer> result = new HashMap<>();
+        int[] row = new int[term.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        for (Node child : root.children.values()) {
+            walk(child, new StringBuilder(), term, row, maxDistance, result);
+        }
+        return result;
+    }
+
+    private void walk(Node node, StringBuilder text, String term, int[] previousRow, int maxDistance,
+                      Map<String, Integer> result) {
+        int length = text.length();
+        int[] row = previousRow;
+        for (int i = 0; i < node.label.length(); i++) {
+            row = nextRow(row, node.label.charAt(i), term);
+            if (min(row) > maxDistance) {
+                return;
+            }
+        }
+        text.append(node.label);
+        if (node.count > 0 && row[term.length()] <= maxDistance) {
+            result.put(text.toString(), row[term.length()]);
+        }
+        for (Node child : node.children.values()) {
+            walk(child, text, term, row, maxDistance, result);
+        }
+        text.setLength(length);
+    }
+
+    private static int[] nextRow(int[] previousRow, char symbol, String term) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previousRow[j - 1] + (term.charAt(j - 1) == symbol ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(row[j - 1], previousRow[j]) + 1);
+        }
+        return row;
+    }
+
+    private static int min(int[] row) {
+        int min = row[0];
+        for (int value : row) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private List<Node> find(String term) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < term.length()) {
+            node = node.children.get(term.charAt(position));
+            if (node == null || !term.startsWith(node.label, position)) {
+                return null;
+            }
+            position += node.label.length();
+            path.add(node);
+        }
+        return node.count > 0 ? path : null;
+    }
+
+    private Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        middle.maxCount = child.maxCount;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private void compact(Node parent, Node node) {
+        if (node.count > 0) {
+            return;
+        }
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+        } else if (node.children.size() == 1) {
+            Node child = node.children.firstEntry().getValue();
+            node.label = node.label + child.label;
+            node.count = child.count;
+            node.maxCount = child.maxCount;
+            node.children.clear();
+            node.children.putAll(child.children);
+        }
+    }
+
+    private void updateMaxCounts(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            int maxCount = node.count;
+            for (Node child : node.children.values()) {
+                maxCount = Math.max(maxCount, child.maxCount);
+            }
+            node.maxCount = maxCount;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String text, int offset) {
+        int length = Math.min(label.length(), text.length() - offset);
+        int common = 0;
+        while (common < length && label.charAt(common) == text.charAt(offset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private String label;
+        private int count;
+        private int maxCount;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Candidate {
+        private final String text;
+        private final int count;
+        private final Node node;
+
+        private Candidate(String text, int count, Node node) {
+            this.text = text;
+            this.count = count;
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Стеммер русского языка по алгоритму Snowball (Портер).
+ * Окончания снимаются только в области RV — после первой гласной, словообразовательный суффикс «ость» — в R2.
+ * Слово без русских гласных возвращается без изменений. Ожидает слово в нижнем регистре с «ё», заменённой на «е».
+ */
+@UtilityClass
+class RussianStemmer {
+    private final String VOWELS = "аеиоуыэюя";
+    private final String[] PERFECTIVE_GERUND_AFTER_A = endings("в", "вши", "вшись");
+    private final String[] PERFECTIVE_GERUND = endings("ив", "ивши", "ившись", "ыв", "ывши", "ывшись");
+    private final String[] ADJECTIVE = endings("ее", "ие", "ые", "ое", "ими", "ыми", "ей", "ий", "ый", "ой", "ем", "им",
+            "ым", "ом", "его", "ого", "ему", "ому", "их", "ых", "ую", "юю", "ая", "яя", "ою", "ею");
+    private final String[] PARTICIPLE_AFTER_A = endings("ем", "нн", "вш", "ющ", "щ");
+    private final String[] PARTICIPLE = endings("ивш", "ывш", "ующ");
+    private final String[] REFLEXIVE = endings("ся", "сь");
+    private final String[] VERB_AFTER_A = endings("ла", "на", "ете", "йте", "ли", "й", "л", "ем", "н", "ло", "но", "ет",
+            "ют", "ны", "ть", "ешь", "нно");
+    private final String[] VERB = endings("ила", "ыла", "ена", "ейте", "уйте", "ите", "или", "ыли", "ей", "уй", "ил", "ыл",
+            "им", "ым", "ен", "ило", "ыло", "ено", "ят", "ует", "уют", "ит", "ыт", "ены", "ить", "ыть", "ишь", "ую", "ю");
+    private final String[] NOUN = endings("а", "ев", "ов", "ие", "ье", "е", "иями", "ями", "ами", "еи", "ии", "и", "ией",
+            "ей", "ой", "ий", "й", "иям", "ям", "ием", "ем", "ам", "ом", "о", "у", "ах", "иях", "ях", "ы", "ь", "ию", "ью",
+            "ю", "ия", "ья", "я");
+    private final String[] SUPERLATIVE = endings("ейше", "ейш");
+    private final String[] DERIVATIONAL = endings("ость", "ост");
+    private final String[] I = endings("и");
+    private final String[] SOFT_SIGN = endings("ь");
+
+    String stem(String word) {
+        int rv = regionAfterVowel(word);
+        if (rv >= word.length()) {
+            return word;
+        }
+        int r2 = regionAfterConsonant(word, regionAfterConsonant(word, 0));
+        int end = word.length();
+
+        int withoutGerund = strip(word, end, rv, PERFECTIVE_GERUND_AFTER_A, PERFECTIVE_GERUND);
+        if (withoutGerund < end) {
+            end = withoutGerund;
+        } else {
+            end = strip(word, end, rv, null, REFLEXIVE);
+            int withoutAdjective = strip(word, end, rv, null, ADJECTIVE);
+            if (withoutAdjective < end) {
+                end = strip(word, withoutAdjective, rv, PARTICIPLE_AFTER_A, PARTICIPLE);
+            } else {
+                int withoutVerb = strip(word, end, rv, VERB_AFTER_A, VERB);
+                end = withoutVerb < end ? withoutVerb : strip(word, end, rv, null, NOUN);
+            }
+        }
+
+        end = strip(word, end, rv, null, I);
+        end = strip(word, end, r2, null, DERIVATIONAL);
+
+        if (endsWith(word, end, rv, "нн")) {
+            end--;
+        } else {
+            int withoutSuperlative = strip(word, end, rv, null, SUPERLATIVE);
+            if (withoutSuperlative < end) {
+                end = withoutSuperlative;
+                if (endsWith(word, end, rv, "нн")) {
+                    end--;
+                }
+            } else {
+                end = strip(word, end, rv, null, SOFT_SIGN);
+            }
+        }
+        return word.substring(0, end);
+    }
+
+    /**
+     * Снимает самое длинное подходящее окончание. Окончания первой группы засчитываются,
+     * только если перед ними стоит «а» или «я», тоже лежащая в области.
+     */
+    private int strip(String word, int end, int region, String[] afterA, String[] other) {
+        String longest = null;
+        boolean needsA = false;
+        if (afterA != null) {
+            longest = longestEnding(word, end, region, afterA);
+            needsA = longest != null;
+        }
+        String otherLongest = longestEnding(word, end, region, other);
+        if (otherLongest != null && (longest == null || otherLongest.length() > longest.length())) {
+            longest = otherLongest;
+            needsA = false;
+        }
+        if (longest == null) {
+            return end;
+        }
+        int start = end - longest.length();
+        if (needsA && (start - 1 < region || (word.charAt(start - 1) != 'а' && word.charAt(start - 1) != 'я'))) {
+            return end;
+        }
+        return start;
+    }
+
+    private String longestEnding(String word, int end, int region, String[] endings) {
+        for (String ending : endings) {
+            if (endsWith(word, end, region, ending)) {
+                return ending;
+            }
+        }
+        return null;
+    }
+
+    private boolean endsWith(String word, int end, int region, String ending) {
+        int start = end - ending.length();
+        return start >= region && word.startsWith(ending, start);
+    }
+
+    private int regionAfterVowel(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (isVowel(word.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return word.length();
+    }
+
+    private int regionAfterConsonant(String word, int from) {
+        for (int i = from + 1; i < word.length(); i++) {
+            if (!isVowel(word.charAt(i)) && isVowel(word.charAt(i - 1))) {
+                return i + 1;
+            }
+        }
+        return word.length();
+    }
+
+    private boolean isVowel(char symbol) {
+        return VOWELS.indexOf(symbol) >= 0;
+    }
+
+    private String[] endings(String... endings) {
+        String[] sorted = endings.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(String::length).reversed());
+        return sorted;
+    }
+}
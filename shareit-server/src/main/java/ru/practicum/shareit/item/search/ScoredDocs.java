@@ -0,0 +1,120 @@
+package ru.practicum.shareit.item.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Номера документов по возрастанию с их релевантностью.
+ * Объединение берёт лучшую оценку документа (варианты одного слова запроса),
+ * пересечение складывает оценки (разные слова запроса).
+ */
+class ScoredDocs {
+    static final ScoredDocs EMPTY = new ScoredDocs(new int[0], new double[0], 0);
+
+    private final int[] docs;
+    private final double[] scores;
+    private final int size;
+
+    ScoredDocs(int[] docs, double[] scores, int size) {
+        this.docs = docs;
+        this.scores = scores;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    double score(int index) {
+        return scores[index];
+    }
+
+    static ScoredDocs of(RoaringBitmap docs) {
+        int[] resultDocs = docs.toArray();
+        return new ScoredDocs(resultDocs, new double[resultDocs.length], resultDocs.length);
+    }
+
+    RoaringBitmap toBitmap() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.addN(docs, 0, size);
+        return bitmap;
+    }
+
+    ScoredDocs filter(RoaringBitmap filter) {
+        int[] resultDocs = new int[size];
+        double[] resultScores = new double[size];
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.contains(docs[i])) {
+                resultDocs[k] = docs[i];
+                resultScores[k++] = scores[i];
+            }
+        }
+        return new ScoredDocs(resultDocs, resultScores, k);
+    }
+
+    static ScoredDocs union(List<ScoredDocs> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        List<ScoredDocs> merged = lists;
+        while (merged.size() > 1) {
+            List<ScoredDocs> next = new ArrayList<>((merged.size() + 1) / 2);
+            for (int i = 0; i + 1 < merged.size(); i += 2) {
+                next.add(merged.get(i).union(merged.get(i + 1)));
+            }
+            if (merged.size() % 2 == 1) {
+                next.add(merged.get(merged.size() - 1));
+            }
+            merged = next;
+        }
+        return merged.get(0);
+    }
+
+    ScoredDocs union(ScoredDocs other) {
+        int[] resultDocs = new int[size + other.size];
+        double[] resultScores = new double[size + other.size];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && docs[i] < other.docs[j])) {
+                resultDocs[k] = docs[i];
+                resultScores[k++] = scores[i++];
+            } else if (i == size || other.docs[j] < docs[i]) {
+                resultDocs[k] = other.docs[j];
+                resultScores[k++] = other.scores[j++];
+            } else {
+                resultDocs[k] = docs[i];
+                resultScores[k++] = Math.max(scores[i++], other.scores[j++]);
+            }
+        }
+        return new ScoredDocs(resultDocs, resultScores, k);
+    }
+
+    ScoredDocs intersect(ScoredDocs other) {
+        int capacity = Math.min(size, other.size);
+        int[] resultDocs = new int[capacity];
+        double[] resultScores = new double[capacity];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < size && j < other.size) {
+            if (docs[i] < other.docs[j]) {
+                i++;
+            } else if (other.docs[j] < docs[i]) {
+                j++;
+            } else {
+                resultDocs[k] = docs[i];
+                resultScores[k++] = scores[i++] + other.scores[j++];
+            }
+        }
+        return new ScoredDocs(resultDocs, resultScores, k);
+    }
+}
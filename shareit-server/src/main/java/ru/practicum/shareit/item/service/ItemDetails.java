@@ -0,0 +1,39 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.booking.dto.BookingDtoItemById;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
+
+import java.util.List;
+
+/**
+ * Общая для всех пользователей часть карточки вещи. Последнее и следующее бронирование
+ * хранятся всегда, но в ответ попадают только для владельца.
+ */
+@Getter
+@AllArgsConstructor
+class ItemDetails {
+    private final long id;
+    private final String name;
+    private final String description;
+    private final Boolean available;
+    private final long ownerId;
+    private final BookingDtoItemById lastBooking;
+    private final BookingDtoItemById nextBooking;
+    private final List<CommentDto> comments;
+
+    ItemDtoWithBookingAndComments toDto(long userId) {
+        boolean isOwner = userId == ownerId;
+        return new ItemDtoWithBookingAndComments(
+                id,
+                name,
+                description,
+                available,
+                isOwner ? lastBooking : null,
+                isOwner ? nextBooking : null,
+                comments
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.transaction.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Кэш карточек вещей с вытеснением по размеру (W-TinyLFU).
+ * Запись живёт до начала следующего бронирования — в этот момент меняются последнее и следующее
+ * бронирование, — но не дольше maxTtl, который страхует от изменений на других узлах.
+ * Сброс при изменениях выполняется после коммита, чтобы параллельное чтение не вернуло в кэш старые данные.
+ */
+@Component
+public class ItemDetailsCache {
+    private final Cache<Long, ItemDetails> cache;
+
+    public ItemDetailsCache(@Value("${shareit.item-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${shareit.item-cache.max-ttl:10m}") Duration maxTtl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilNextBooking(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "itemDetails");
+    }
+
+    ItemDetails get(long itemId, Function<Long, ItemDetails> loader) {
+        return cache.get(itemId, loader);
+    }
+
+    public void invalidate(long itemId) {
+        AfterCommit.run(() -> cache.invalidate(itemId));
+    }
+
+    private static class UntilNextBooking implements Expiry<Long, ItemDetails> {
+        private final long maxTtlNanos;
+
+        UntilNextBooking(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Long itemId, ItemDetails details, long currentTime) {
+            if (details.getNextBooking() == null) {
+                return maxTtlNanos;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime nextStart = details.getNextBooking().getStart();
+            if (nextStart.isAfter(now.plusNanos(maxTtlNanos))) {
+                return maxTtlNanos;
+            }
+            return Math.max(0, Duration.between(now, nextStart).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Long itemId, ItemDetails details, long currentTime, long currentDuration) {
+            return expireAfterCreate(itemId, details, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long itemId, ItemDetails details, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
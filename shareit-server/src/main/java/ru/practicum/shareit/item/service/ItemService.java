@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 
 import java.util.List;
 
@@ -14,9 +15,13 @@ public interface ItemService {
 
     ItemDtoWithBookingAndComments getItemById(long userId, long id);
 
-    List<ItemDtoWithBookingAndComments> getAllItemByOwner(long userId);
+    List<ItemDtoWithBookingAndComments> getAllItemByOwner(long userId, int from, int size);
 
-    List<ItemDto> search(String text);
+    List<ItemDto> search(String text, String tag, int from, int size, boolean fuzzy);
+
+    ItemSearchResultDto searchWithFacets(String text, String tag, int from, int size, boolean fuzzy);
+
+    List<String> suggest(String prefix, int size);
 
     CommentDto createComment(long userId, long itemId, CommentDto commentDto);
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item.service;
 
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
@@ -13,10 +14,14 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentMapper;
+import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.exception.DataNotFound;
 import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -25,7 +30,8 @@ import ru.practicum.shareit.user.userDto.UserMapper;
 
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,6 +43,8 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemDetailsCache itemDetailsCache;
+    private final ItemSearchIndex itemSearchIndex;
 
     @SneakyThrows
     @Override
@@ -50,8 +58,9 @@ public class ItemServiceImpl implements ItemService {
             ItemRequest itemRequest = itemRequestRepository.getReferenceById(itemDto.getRequestId());
             item = ItemMapper.toItem(itemDto, currentUser, itemRequest);
         }
-        Item itemAfterCreate = itemRepository.save(item);
-        return ItemMapper.toItemDto(itemAfterCreate);
+        ItemDto itemAfterCreate = ItemMapper.toItemDtoWithTags(itemRepository.save(item));
+        itemSearchIndex.index(itemAfterCreate);
+        return itemAfterCreate;
     }
 
     @SneakyThrows
@@ -67,73 +76,132 @@ public class ItemServiceImpl implements ItemService {
             itemForUpdate.setDescription(itemDto.getDescription());
         if (itemDto.getAvailable() != null) itemForUpdate.setAvailable(itemDto.getAvailable());
         if (itemDto.getRequestId() > 0) itemForUpdate.setItemRequest(itemRequestRepository.getReferenceById(itemDto.getRequestId()));
-        Item itemAfterUpdate = itemRepository.save(itemForUpdate);
-        return ItemMapper.toItemDto(itemAfterUpdate);
+        if (itemDto.getTags() != null) {
+            itemForUpdate.getTags().clear();
+            itemForUpdate.getTags().addAll(ItemMapper.toTags(itemDto.getTags()));
+        }
+        ItemDto itemAfterUpdate = ItemMapper.toItemDtoWithTags(itemRepository.save(itemForUpdate));
+        itemDetailsCache.invalidate(id);
+        itemSearchIndex.index(itemAfterUpdate);
+        return itemAfterUpdate;
     }
 
     @Override
     @Transactional
     public ItemDtoWithBookingAndComments getItemById(long userId, long id) {
+        return itemDetailsCache.get(id, this::loadItemDetails).toDto(userId);
+    }
+
+    private ItemDetails loadItemDetails(long id) {
         LocalDateTime currentTime = LocalDateTime.now();
-        List<Booking> bookingsById = bookingRepository.findByItemId(id);
-        List<Booking> bookingsInPast = bookingsById.stream()
-                .filter(booking -> booking.getStart().isBefore(currentTime))
-                .sorted(Comparator.comparing(Booking::getEnd).reversed())
-                .collect(Collectors.toList());
-        List<Booking> bookingsInFuture = bookingsById.stream()
-                .filter(booking -> booking.getStart().isAfter(currentTime))
-                .sorted(Comparator.comparing(Booking::getStart))
-                .collect(Collectors.toList());
         Booking lastBooking = null;
         Booking nextBooking = null;
         Item currentItem = itemRepository.getReferenceById(id);
-        if (userId == currentItem.getOwner().getId()) {
-            if (!bookingsInPast.isEmpty()) {
-                lastBooking = bookingsInPast.get(0);
-            }
-            if (!bookingsInFuture.isEmpty()) {
-                nextBooking = bookingsInFuture.get(0);
+        for (Booking booking : bookingRepository.findLastAndNextByItemId(
+                id, BookingStatus.REJECTED.ordinal(), currentTime)) {
+            if (booking.getStart().isBefore(currentTime)) {
+                lastBooking = booking;
+            } else {
+                nextBooking = booking;
             }
         }
-        BookingDtoItemById lastBookingDto = null;
-        BookingDtoItemById nextBookingDto = null;
-        if (lastBooking != null && !lastBooking.getStatus().equals(BookingStatus.REJECTED)) {
-            lastBookingDto = BookingMapper.bookingDtoItemByIdDtoItem(lastBooking);
-        }
-        if (nextBooking != null && !nextBooking.getStatus().equals(BookingStatus.REJECTED)) {
-            nextBookingDto = BookingMapper.bookingDtoItemByIdDtoItem(nextBooking);
-        }
         List<CommentDto> commentsDto = commentRepository.findAllByItemId(id).stream()
-                    .map(CommentMapper::toCommentDto)
-                    .collect(Collectors.toList());
-
-        return ItemMapper.itemDtoWithBookingAndComments(currentItem,
-                lastBookingDto,
-                nextBookingDto,
+                .map(CommentMapper::toCommentDto)
+                .collect(Collectors.toUnmodifiableList());
+        return new ItemDetails(
+                currentItem.getId(),
+                currentItem.getName(),
+                currentItem.getDescription(),
+                currentItem.getAvailable(),
+                currentItem.getOwner().getId(),
+                toBookingDtoItemById(lastBooking),
+                toBookingDtoItemById(nextBooking),
                 commentsDto);
     }
 
     @Override
     @Transactional
-    public List<ItemDtoWithBookingAndComments> getAllItemByOwner(long userId) {
-        List<Item> itemsByOwner = itemRepository.findItemByOwnerId(userId);
-        return itemsByOwner.stream().map(item -> getItemById(userId, item.getId()))
-                .sorted(Comparator.comparing(ItemDtoWithBookingAndComments::getId))
-                .collect(Collectors.toList());
+    public List<ItemDtoWithBookingAndComments> getAllItemByOwner(long userId, int from, int size) {
+        checkPage(from, size);
+        List<Item> items = itemRepository.findItemByOwnerId(userId, new OffsetPageRequest(from, size, Sort.by("id")));
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        long[] itemIds = items.stream().mapToLong(Item::getId).toArray();
+        List<Long> itemIdList = Arrays.stream(itemIds).boxed().collect(Collectors.toList());
+        LocalDateTime currentTime = LocalDateTime.now();
+        Booking[] lastBookings = new Booking[itemIds.length];
+        Booking[] nextBookings = new Booking[itemIds.length];
+        for (Booking booking : bookingRepository.findByItemIdIn(itemIdList)) {
+            if (booking.getStatus() == BookingStatus.REJECTED) {
+                continue;
+            }
+            int index = Arrays.binarySearch(itemIds, booking.getItem().getId());
+            if (booking.getStart().isBefore(currentTime)) {
+                if (lastBookings[index] == null || booking.getEnd().isAfter(lastBookings[index].getEnd())) {
+                    lastBookings[index] = booking;
+                }
+            } else if (booking.getStart().isAfter(currentTime)) {
+                if (nextBookings[index] == null || booking.getStart().isBefore(nextBookings[index].getStart())) {
+                    nextBookings[index] = booking;
+                }
+            }
+        }
+        List<List<CommentDto>> comments = new ArrayList<>(itemIds.length);
+        for (int i = 0; i < itemIds.length; i++) {
+            comments.add(new ArrayList<>());
+        }
+        for (Comment comment : commentRepository.findAllByItemIdIn(itemIdList)) {
+            comments.get(Arrays.binarySearch(itemIds, comment.getItem().getId())).add(CommentMapper.toCommentDto(comment));
+        }
+        List<ItemDtoWithBookingAndComments> result = new ArrayList<>(itemIds.length);
+        for (int i = 0; i < itemIds.length; i++) {
+            result.add(ItemMapper.itemDtoWithBookingAndComments(items.get(i),
+                    toBookingDtoItemById(lastBookings[i]),
+                    toBookingDtoItemById(nextBookings[i]),
+                    comments.get(i)));
+        }
+        return result;
+    }
+
+    private BookingDtoItemById toBookingDtoItemById(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return BookingMapper.bookingDtoItemByIdDtoItem(booking);
     }
 
     @Override
-    @Transactional
-    public List<ItemDto> search(String text) {
-        if (text.isBlank()) {
+    public List<ItemDto> search(String text, String tag, int from, int size, boolean fuzzy) {
+        checkPage(from, size);
+        String normalizedTag = ItemMapper.toTag(tag);
+        if (text.isBlank() && normalizedTag == null) {
             return List.of();
         }
-        List<Item> items = itemRepository.searchByNameAndDescription(text);
-        return items.stream()
-                .map(ItemMapper::toItemDto)
-                .filter(ItemDto::getAvailable)
-                .distinct()
-                .collect(Collectors.toList());
+        return itemSearchIndex.search(text, normalizedTag, from, size, fuzzy);
+    }
+
+    @Override
+    public ItemSearchResultDto searchWithFacets(String text, String tag, int from, int size, boolean fuzzy) {
+        checkPage(from, size);
+        return itemSearchIndex.searchWithFacets(text, ItemMapper.toTag(tag), from, size, fuzzy);
+    }
+
+    @Override
+    public List<String> suggest(String prefix, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Неверный индекс размера страницы");
+        }
+        return itemSearchIndex.suggest(prefix, size);
+    }
+
+    private void checkPage(int from, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Неверный индекс размера страницы");
+        }
+        if (from < 0) {
+            throw new IllegalArgumentException("Неверный индекс начального элемента");
+        }
     }
 
     @Override
@@ -146,6 +214,8 @@ public class ItemServiceImpl implements ItemService {
         if (bookingsByItemId == null || bookingsByItemId.isEmpty()) {
             throw new IllegalArgumentException("Данный пользователь не брал вещь в аренду, либо аренда ещё не завершена");
         }
-        return CommentMapper.toCommentDto(commentRepository.save(CommentMapper.toCommentForCreated(commentDto, item, cuttentUser)));
+        Comment comment = commentRepository.save(CommentMapper.toCommentForCreated(commentDto, item, cuttentUser));
+        itemDetailsCache.invalidate(itemId);
+        return CommentMapper.toCommentDto(comment);
     }
 }
@@ -10,10 +10,11 @@ import java.util.List;
 public class ItemRequestMapper {
 
     public static ItemRequestDto toItemRequestDto(ItemRequest itemRequest, List<ItemDto> items) {
+        User requester = itemRequest.getRequester();
         return new ItemRequestDto(
                 itemRequest.getId(),
                 itemRequest.getDescription(),
-                itemRequest.getRequester(),
+                new User(requester.getId(), requester.getEmail(), requester.getName()),
                 itemRequest.getCreated(),
                 items
         );
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
+@NamedEntityGraph(name = "ItemRequest.withRequester", attributeNodes = @NamedAttributeNode("requester"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "ITEM_REQUESTS")
@@ -19,7 +20,7 @@ public class ItemRequest {
     @Column(name = "ITEM_REQUEST_ID")
     private long id;
     private String description;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User requester;
     private LocalDateTime created;
@@ -2,14 +2,21 @@ package ru.practicum.shareit.request.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
+    @EntityGraph("ItemRequest.withRequester")
     List<ItemRequest> findByRequesterId(long id);
 
+    @EntityGraph("ItemRequest.withRequester")
+    Optional<ItemRequest> findWithRequesterById(long id);
+
+    @EntityGraph("ItemRequest.withRequester")
     Page<ItemRequest> findAll(Pageable pageable);
 
     List<ItemRequest> findAll();
@@ -21,8 +21,8 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.user.userDto.UserMapper;
 
+import javax.transaction.Transactional;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,6 +34,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private UserRepository userRepository;
 
     @Override
+    @Transactional
     public ItemRequestDto createItemRequest(Long userId, ItemRequestDto itemRequestDto) {
         User user = UserMapper.toUser(userService.getUserById(userId));
         ItemRequest itemRequest = ItemRequestMapper.toItemRequest(itemRequestDto, user);
@@ -42,15 +43,11 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @SneakyThrows
     @Override
+    @Transactional
     public ItemRequestDto getRequestById(long userId, long requestId) {
-        List<User> allUser = userRepository.findAll();
-        Optional<User> user = allUser.stream().filter(user1 -> user1.getId() == userId)
-                .findFirst();
-        user.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Пользователь не найден"));
-        ItemRequest itemRequest = itemRequestRepository.getReferenceById(requestId);
-        if (itemRequest == null) {
-            throw new DataNotFound("ItemRequest под ID: " + requestId + " не найден");
-        }
+        checkUserExists(userId);
+        ItemRequest itemRequest = itemRequestRepository.findWithRequesterById(requestId)
+                .orElseThrow(() -> new DataNotFound("ItemRequest под ID: " + requestId + " не найден"));
         List<ItemDto> itemsByRequest;
         List<Item> itemFromRepository = itemRepository.findItemByItemRequestId(requestId);
         if (itemFromRepository == null) {
@@ -63,18 +60,14 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
+    @Transactional
     public List<ItemRequestDto> getRequestsByUser(long userId) {
-        List<User> allUser = userRepository.findAll();
-        Optional<User> user = allUser.stream().filter(user1 -> user1.getId() == userId)
-                .findFirst();
-        user.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Пользователь не найден"));
-        List<Item> allItem = itemRepository.findAll();
-        return itemRequestRepository.findByRequesterId(userId).stream()
-                .map(itemRequest -> getItemRequestWithItem(itemRequest, allItem))
-                .collect(Collectors.toList());
+        checkUserExists(userId);
+        return withItems(itemRequestRepository.findByRequesterId(userId));
     }
 
     @Override
+    @Transactional
     public List<ItemRequestDto> getRequestsAll(long userId, int from, int size) {
         if (from == 0 && size == 0) {
             throw new IllegalArgumentException("Неверный индекс начального элемента и размера страницы");
@@ -88,26 +81,31 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         if (from < 0) {
             throw new IllegalArgumentException("Неверный индекс начального элемента");
         }
-        List<ItemRequest> allItemRequests = itemRequestRepository.findAll();
-        if (allItemRequests.isEmpty()) {
-            return List.of();
-        }
-        List<Item> allItem = itemRepository.findAll();
-        if (from == 0) {
-            Pageable pageable = PageRequest.of(0, size);
-            return itemRequestRepository.findAll(pageable).stream()
-                    .map(itemRequest -> getItemRequestWithItem(itemRequest, allItem))
-                    .filter(itemRequestDto -> itemRequestDto.getRequester().getId() != userId)
-                    .collect(Collectors.toList());
-        }
         int currentPage = from / size;
         Pageable pageable = PageRequest.of(currentPage, size);
-        return itemRequestRepository.findAll(pageable).stream()
-                .map(itemRequest -> getItemRequestWithItem(itemRequest, allItem))
+        return withItems(itemRequestRepository.findAll(pageable).getContent()).stream()
                 .filter(itemRequestDto -> itemRequestDto.getRequester().getId() != userId)
                 .collect(Collectors.toList());
     }
 
+    private void checkUserExists(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Пользователь не найден");
+        }
+    }
+
+    private List<ItemRequestDto> withItems(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return List.of();
+        }
+        List<Item> items = itemRepository.findItemByItemRequestIdIn(itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList()));
+        return itemRequests.stream()
+                .map(itemRequest -> getItemRequestWithItem(itemRequest, items))
+                .collect(Collectors.toList());
+    }
+
     private ItemRequestDto getItemRequestWithItem(ItemRequest itemRequest, List<Item> allItem) {
         List<ItemDto> itemsByRequestId = allItem.stream()
                 .filter(i -> i.getItemRequest() != null && i.getItemRequest().getId() == itemRequest.getId())
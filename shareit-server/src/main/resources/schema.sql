@@ -1,4 +1,4 @@
-DROP TABLE IF EXISTS USERS, ITEM_REQUESTS, ITEMS, BOOKINGS, COMMENTS;
+DROP TABLE IF EXISTS USERS, ITEM_REQUESTS, ITEMS, ITEM_TAGS, BOOKINGS, COMMENTS;
 
 CREATE TABLE IF NOT EXISTS USERS (
   USER_ID INT GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
@@ -22,6 +22,16 @@ CREATE TABLE IF NOT EXISTS ITEMS (
   ITEM_REQUEST_ID INT REFERENCES ITEM_REQUESTS (ITEM_REQUEST_ID)
 );
 
+CREATE INDEX IF NOT EXISTS IDX_ITEMS_OWNER ON ITEMS (USER_ID);
+
+CREATE TABLE IF NOT EXISTS ITEM_TAGS (
+  ITEM_ID INT NOT NULL REFERENCES ITEMS (ITEM_ID) ON DELETE CASCADE,
+  TAG VARCHAR (55) NOT NULL,
+  PRIMARY KEY (ITEM_ID, TAG)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_ITEM_TAGS_TAG ON ITEM_TAGS (TAG);
+
 CREATE TABLE IF NOT EXISTS BOOKINGS (
   BOOKING_ID INT GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   BOOKING_START TIMESTAMP WITHOUT TIME ZONE NOT NULL,
@@ -31,6 +41,9 @@ CREATE TABLE IF NOT EXISTS BOOKINGS (
   STATUS INT
 );
 
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_ITEM_START_END ON BOOKINGS (ITEM_ID, BOOKING_START, BOOKING_END);
+CREATE INDEX IF NOT EXISTS IDX_BOOKINGS_BOOKER_START_ID ON BOOKINGS (USER_ID, BOOKING_START DESC, BOOKING_ID DESC);
+
 CREATE TABLE IF NOT EXISTS COMMENTS (
   COMMENT_ID INT GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
   TEXT VARCHAR (255) NOT NULL,
@@ -0,0 +1,116 @@
+package ru.practicum.shareit;
+
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.constans.Constants;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import javax.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@DirtiesContext
+class StatementCountIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private ItemRequest itemRequest;
+    private Item item;
+    private Booking waitingBooking;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime now = LocalDateTime.now();
+        bookingRepository.deleteAll();
+        commentRepository.deleteAll();
+        itemRepository.deleteAll();
+        itemRequestRepository.deleteAll();
+        userRepository.deleteAll();
+        owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        User requester = userRepository.save(new User(0, "requester@mail.ru", "Requester"));
+        itemRequest = itemRequestRepository.save(new ItemRequest(0, "Нужен молоток", requester, now));
+        item = itemRepository.save(new Item(0, "Hammer", "Big hammer", true, owner, itemRequest, new HashSet<>()));
+        itemRepository.save(new Item(0, "Saw", "Sharp saw", true, owner, null, new HashSet<>()));
+        bookingRepository.save(new Booking(0, now.minusDays(3), now.minusDays(2), item, booker, BookingStatus.APPROVED));
+        waitingBooking = bookingRepository.save(new Booking(0, now.plusDays(2), now.plusDays(3), item, booker, BookingStatus.WAITING));
+        commentRepository.save(new Comment(0, "Отличный молоток", item, booker, now));
+        itemSearchIndex.rebuild();
+    }
+
+    @Test
+    void bookingEndpointsStatementCountTest() {
+        Assertions.assertEquals(1, countStatements(MockMvcRequestBuilders.get("/bookings/{id}", waitingBooking.getId()), booker));
+        Assertions.assertEquals(2, countStatements(MockMvcRequestBuilders.get("/bookings?state=ALL"), booker));
+        Assertions.assertEquals(2, countStatements(MockMvcRequestBuilders.get("/bookings/owner?state=FUTURE"), owner));
+        Assertions.assertEquals(2, countStatements(
+                MockMvcRequestBuilders.patch("/bookings/{id}?approved=true", waitingBooking.getId()), owner));
+    }
+
+    @Test
+    void itemEndpointsStatementCountTest() {
+        Assertions.assertEquals(3, countStatements(MockMvcRequestBuilders.get("/items/{id}", item.getId()), owner));
+        Assertions.assertEquals(0, countStatements(MockMvcRequestBuilders.get("/items/{id}", item.getId()), booker));
+        Assertions.assertEquals(3, countStatements(MockMvcRequestBuilders.get("/items?from=0&size=10"), owner));
+        Assertions.assertEquals(0, countStatements(MockMvcRequestBuilders.get("/items/search?text=hammer"), booker));
+        Assertions.assertEquals(0, countStatements(MockMvcRequestBuilders.get("/items/search?text=hammer&facets=true"), booker));
+    }
+
+    @Test
+    void requestEndpointsStatementCountTest() {
+        Assertions.assertEquals(3, countStatements(MockMvcRequestBuilders.get("/requests/{id}", itemRequest.getId()), owner));
+        Assertions.assertEquals(3, countStatements(MockMvcRequestBuilders.get("/requests"), itemRequest.getRequester()));
+        Assertions.assertEquals(2, countStatements(MockMvcRequestBuilders.get("/requests/all?from=0&size=10"), owner));
+    }
+
+    @SneakyThrows
+    private long countStatements(MockHttpServletRequestBuilder request, User user) {
+        statistics.clear();
+        mockMvc.perform(request.header(Constants.REQUEST_HEADER_NAME, user.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
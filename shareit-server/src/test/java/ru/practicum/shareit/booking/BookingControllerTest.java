@@ -8,10 +8,13 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -34,7 +37,7 @@ class BookingControllerTest {
 
     private List<BookingDto> getBookingForTest() {
         UserDto booker = new UserDto(1, "Lol@mail.ru", "Lola");
-        ItemDto item = new ItemDto(1, "Hammer", "Big hammer", true, 0);
+        ItemDto item = new ItemDto(1, "Hammer", "Big hammer", true, 0, null);
         BookingDto bookingDto1 = new BookingDto(
                 1L,
                 LocalDateTime.now().minusDays(4),
@@ -132,4 +135,23 @@ class BookingControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(bookings)));
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    @Test
+    void getAllBookingsByBookerAfterTest() {
+        List<BookingDto> bookings = getBookingForTest();
+        BookingDto last = bookings.get(1);
+
+        Mockito.when(bookingService.getAllBookingsByBookerAfter(ArgumentMatchers.anyLong(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyInt()))
+                .thenReturn(new SliceImpl<>(bookings, PageRequest.of(0, 2), true));
+
+        mockMvc.perform((MockMvcRequestBuilders.get("/bookings?state=ALL&size=2&after="))
+                        .header(Constants.REQUEST_HEADER_NAME, 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(Constants.NEXT_CURSOR_HEADER_NAME,
+                        new BookingCursor(last.getStart(), last.getId()).encode()))
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(bookings)));
+    }
+}
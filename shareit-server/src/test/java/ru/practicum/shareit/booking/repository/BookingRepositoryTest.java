@@ -0,0 +1,170 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRole;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@DataJpaTest
+class BookingRepositoryTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void existsOverlappingTest() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        User booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        Item item = itemRepository.save(new Item(0, "Hammer", "Big hammer", true, owner, null, new HashSet<>()));
+        long itemId = item.getId();
+        bookingRepository.save(new Booking(0, now.plusDays(2), now.plusDays(4), item, booker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(0, now.plusDays(6), now.plusDays(8), item, booker, BookingStatus.REJECTED));
+
+        Assertions.assertTrue(bookingRepository.existsOverlapping(itemId, BookingStatus.REJECTED, now.plusDays(5), now.plusDays(3)));
+        Assertions.assertTrue(bookingRepository.existsOverlapping(itemId, BookingStatus.REJECTED, now.plusDays(3), now.plusDays(1)));
+        Assertions.assertTrue(bookingRepository.existsOverlapping(itemId, BookingStatus.REJECTED, now.plusDays(5), now.plusDays(1)));
+        Assertions.assertFalse(bookingRepository.existsOverlapping(itemId, BookingStatus.REJECTED, now.plusDays(2), now.plusDays(1)));
+        Assertions.assertFalse(bookingRepository.existsOverlapping(itemId, BookingStatus.REJECTED, now.plusDays(7), now.plusDays(6)));
+    }
+
+    @Test
+    void findLastAndNextByItemIdTest() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        User booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        Item item = itemRepository.save(new Item(0, "Hammer", "Big hammer", true, owner, null, new HashSet<>()));
+        Item otherItem = itemRepository.save(new Item(0, "Saw", "Sharp saw", true, owner, null, new HashSet<>()));
+        bookingRepository.save(new Booking(0, now.minusDays(9), now.minusDays(5), item, booker, BookingStatus.APPROVED));
+        long last = bookingRepository.save(new Booking(0, now.minusDays(4), now.minusDays(2), item, booker, BookingStatus.APPROVED)).getId();
+        bookingRepository.save(new Booking(0, now.minusDays(3), now.minusDays(1), item, booker, BookingStatus.REJECTED));
+        bookingRepository.save(new Booking(0, now.plusDays(1), now.plusDays(2), item, booker, BookingStatus.REJECTED));
+        long next = bookingRepository.save(new Booking(0, now.plusDays(3), now.plusDays(4), item, booker, BookingStatus.WAITING)).getId();
+        bookingRepository.save(new Booking(0, now.plusDays(5), now.plusDays(6), item, booker, BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(0, now.plusHours(1), now.plusHours(2), otherItem, booker, BookingStatus.APPROVED));
+
+        List<Booking> bookings = bookingRepository.findLastAndNextByItemId(item.getId(), BookingStatus.REJECTED.ordinal(), now);
+        Assertions.assertEquals(Set.of(last, next), bookings.stream().map(Booking::getId).collect(Collectors.toSet()));
+        Assertions.assertTrue(bookingRepository.findLastAndNextByItemId(item.getId(), BookingStatus.REJECTED.ordinal(),
+                now.minusDays(20)).stream().allMatch(booking -> booking.getStart().isAfter(now.minusDays(20))));
+    }
+
+    @Test
+    void findSliceWithCursorTest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        User owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        User booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        Item item = itemRepository.save(new Item(0, "Hammer", "Big hammer", true, owner, null, new HashSet<>()));
+        long first = bookingRepository.save(new Booking(0, start, start.plusHours(1), item, booker, BookingStatus.APPROVED)).getId();
+        long second = bookingRepository.save(new Booking(0, start, start.plusHours(2), item, booker, BookingStatus.WAITING)).getId();
+        long third = bookingRepository.save(new Booking(0, start.minusDays(3), start.minusDays(2), item, booker, BookingStatus.APPROVED)).getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        Slice<BookingDto> firstSlice = bookingRepository.findSlice(
+                BookingSpecifications.of(BookingRole.BOOKER, booker.getId(), BookingStatus.ALL, now, null),
+                PageRequest.of(0, 2, BookingSpecifications.NEWEST_FIRST));
+        Assertions.assertEquals(List.of(second, first), firstSlice.map(BookingDto::getId).getContent());
+        Assertions.assertTrue(firstSlice.hasNext());
+
+        Slice<BookingDto> nextSlice = bookingRepository.findSlice(
+                BookingSpecifications.of(BookingRole.BOOKER, booker.getId(), BookingStatus.ALL, now, new BookingCursor(start, first)),
+                PageRequest.of(0, 2, BookingSpecifications.NEWEST_FIRST));
+        Assertions.assertEquals(List.of(third), nextSlice.map(BookingDto::getId).getContent());
+        Assertions.assertFalse(nextSlice.hasNext());
+
+        Slice<BookingDto> ownerSlice = bookingRepository.findSlice(
+                BookingSpecifications.of(BookingRole.OWNER, owner.getId(), BookingStatus.APPROVED, now, new BookingCursor(start, second)),
+                PageRequest.of(0, 5, BookingSpecifications.NEWEST_FIRST));
+        Assertions.assertEquals(List.of(first, third), ownerSlice.map(BookingDto::getId).getContent());
+    }
+
+    @Test
+    void findSliceByStateTest() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        User booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        Item item = itemRepository.save(new Item(0, "Hammer", "Big hammer", true, owner, null, new HashSet<>()));
+        long past = bookingRepository.save(new Booking(0, now.minusDays(5), now.minusDays(4), item, booker, BookingStatus.APPROVED)).getId();
+        long current = bookingRepository.save(new Booking(0, now.minusDays(1), now.plusDays(1), item, booker, BookingStatus.APPROVED)).getId();
+        long future = bookingRepository.save(new Booking(0, now.plusDays(2), now.plusDays(3), item, booker, BookingStatus.WAITING)).getId();
+        long farFuture = bookingRepository.save(new Booking(0, now.plusDays(6), now.plusDays(7), item, booker, BookingStatus.REJECTED)).getId();
+
+        Assertions.assertEquals(List.of(past), findIds(BookingRole.BOOKER, booker.getId(), BookingStatus.PAST, now, 0, 10));
+        Assertions.assertEquals(List.of(current), findIds(BookingRole.OWNER, owner.getId(), BookingStatus.CURRENT, now, 0, 10));
+        Assertions.assertEquals(List.of(farFuture, future), findIds(BookingRole.BOOKER, booker.getId(), BookingStatus.FUTURE, now, 0, 10));
+        Assertions.assertEquals(List.of(future), findIds(BookingRole.OWNER, owner.getId(), BookingStatus.WAITING, now, 0, 10));
+        Assertions.assertEquals(List.of(farFuture), findIds(BookingRole.BOOKER, booker.getId(), BookingStatus.REJECTED, now, 0, 10));
+        Assertions.assertEquals(List.of(future, current), findIds(BookingRole.BOOKER, booker.getId(), BookingStatus.ALL, now, 1, 2));
+        Assertions.assertTrue(findIds(BookingRole.OWNER, booker.getId(), BookingStatus.ALL, now, 0, 10).isEmpty());
+    }
+
+    @Test
+    void findSliceProjectionTest() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        User owner = userRepository.save(new User(0, "owner@mail.ru", "Owner"));
+        User booker = userRepository.save(new User(0, "booker@mail.ru", "Booker"));
+        ItemRequest itemRequest = itemRequestRepository.save(new ItemRequest(0, "Need hammer", booker, now));
+        Item requested = itemRepository.save(new Item(0, "Hammer", "Big hammer", true, owner, itemRequest, new HashSet<>()));
+        Item item = itemRepository.save(new Item(0, "Saw", "Sharp saw", false, owner, null, new HashSet<>()));
+        bookingRepository.save(new Booking(0, now.plusDays(1), now.plusDays(2), requested, booker, BookingStatus.WAITING));
+        bookingRepository.save(new Booking(0, now.plusDays(3), now.plusDays(4), item, booker, BookingStatus.APPROVED));
+        entityManager.clear();
+
+        List<BookingDto> bookings = bookingRepository.findSlice(
+                        BookingSpecifications.of(BookingRole.OWNER, owner.getId(), BookingStatus.ALL, now, null),
+                        new OffsetPageRequest(0, 10, BookingSpecifications.NEWEST_FIRST))
+                .getContent();
+
+        Assertions.assertEquals(2, bookings.size());
+        BookingDto saw = bookings.get(0);
+        Assertions.assertEquals(now.plusDays(3), saw.getStart());
+        Assertions.assertEquals(BookingStatus.APPROVED, saw.getStatus());
+        Assertions.assertEquals("Saw", saw.getItem().getName());
+        Assertions.assertFalse(saw.getItem().getAvailable());
+        Assertions.assertEquals(0, saw.getItem().getRequestId());
+        BookingDto hammer = bookings.get(1);
+        Assertions.assertEquals(itemRequest.getId(), hammer.getItem().getRequestId());
+        Assertions.assertEquals(booker.getId(), hammer.getBooker().getId());
+        Assertions.assertEquals("booker@mail.ru", hammer.getBooker().getEmail());
+        Assertions.assertEquals("Booker", hammer.getBooker().getName());
+        Assertions.assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    private List<Long> findIds(BookingRole role, long userId, BookingStatus state, LocalDateTime now, int from, int size) {
+        return bookingRepository.findSlice(
+                        BookingSpecifications.of(role, userId, state, now, null),
+                        new OffsetPageRequest(from, size, BookingSpecifications.NEWEST_FIRST))
+                .map(BookingDto::getId)
+                .getContent();
+    }
+}
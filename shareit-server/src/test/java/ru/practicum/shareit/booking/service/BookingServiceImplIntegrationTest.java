@@ -5,8 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
+import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
@@ -15,6 +18,7 @@ import ru.practicum.shareit.user.userDto.UserDto;
 import ru.practicum.shareit.user.userDto.UserMapper;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 
 @SpringBootTest
@@ -27,6 +31,8 @@ class BookingServiceImplIntegrationTest {
     private UserService userService;
     @Autowired
     private BookingRepository bookingRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
 
     @Test
@@ -35,9 +41,9 @@ class BookingServiceImplIntegrationTest {
         UserDto booker = userService.create(new UserDto(0, "email@mail.ru", "NameUser"));
         UserDto owner1 = userService.create(new UserDto(0, "email2@mail.ru", "NameUser2"));
         UserDto owner2 = userService.create(new UserDto(0, "email3@mail.ru", "NameUser3"));
-        Item itemForBooking1 = new Item(0, "Hammer", "Big hammer", true, UserMapper.toUser(owner1), null);
-        Item itemForBooking2 = new Item(0, "Glasses", "Big Glasses", true, UserMapper.toUser(owner1), null);
-        Item itemForBooking3 = new Item(0, "Camera", "Professional camera", true, UserMapper.toUser(owner2), null);
+        Item itemForBooking1 = new Item(0, "Hammer", "Big hammer", true, UserMapper.toUser(owner1), null, new HashSet<>());
+        Item itemForBooking2 = new Item(0, "Glasses", "Big Glasses", true, UserMapper.toUser(owner1), null, new HashSet<>());
+        Item itemForBooking3 = new Item(0, "Camera", "Professional camera", true, UserMapper.toUser(owner2), null, new HashSet<>());
         long itemId1 = itemRepository.save(itemForBooking1).getId();
         itemRepository.save(itemForBooking2);
         itemRepository.save(itemForBooking3);
@@ -75,4 +81,31 @@ class BookingServiceImplIntegrationTest {
         List<BookingDto> bookingDtoCurrent = bookingService.getAllBookingsByOwner(2, "CURRENT", 0, 5);
         Assertions.assertEquals(1, bookingDtoCurrent.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void overlapFollowsCommittedBookingStatus() {
+        UserDto booker = userService.create(new UserDto(0, "email@mail.ru", "NameUser"));
+        UserDto owner = userService.create(new UserDto(0, "email2@mail.ru", "NameUser2"));
+        long itemId = itemRepository.save(
+                new Item(0, "Hammer", "Big hammer", true, UserMapper.toUser(owner), null, new HashSet<>())).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(4);
+        LocalDateTime end = LocalDateTime.now().plusDays(5);
+        BookingDtoCreate inside = new BookingDtoCreate(0L, start.plusHours(1), end.minusHours(1), itemId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            bookingService.createBooking(booker.getId(), new BookingDtoCreate(0L, start, end, itemId));
+            status.setRollbackOnly();
+        });
+        BookingDto booking = bookingService.createBooking(booker.getId(), new BookingDtoCreate(0L, start, end, itemId));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(booker.getId(), inside));
+
+        bookingService.confirmationBooking(owner.getId(), booking.getId(), false);
+        Assertions.assertEquals(BookingStatus.REJECTED, bookingRepository.findById(booking.getId()).orElseThrow().getStatus());
+        BookingDto replacement = bookingService.createBooking(booker.getId(), inside);
+
+        bookingService.confirmationBooking(owner.getId(), replacement.getId(), false);
+        bookingService.confirmationBooking(owner.getId(), booking.getId(), true);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(booker.getId(), inside));
+    }
+}
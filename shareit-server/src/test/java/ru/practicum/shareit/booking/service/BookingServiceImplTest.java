@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,25 +9,34 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
+import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingSpecifications;
 import ru.practicum.shareit.exception.DataNotFound;
 import ru.practicum.shareit.exception.NotFoundBookingStatusException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemDetailsCache;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.user.userDto.UserMapper;
 
-import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceImplTest {
@@ -43,10 +53,17 @@ class BookingServiceImplTest {
         bookingService = new BookingServiceImpl(
                 bookingRepository,
                 itemRepository,
-                userService
+                userService,
+                new ItemDetailsCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry())
         );
     }
 
+    private List<BookingDto> toBookingDtos(List<Booking> bookings) {
+        return bookings.stream()
+                .map(BookingMapper::toBookingDto)
+                .collect(Collectors.toList());
+    }
+
     @Test
     void createBookingTestThrowIllegalArgumentExceptionIncorrectDate() {
         BookingDtoCreate bookingDtoCreate = new BookingDtoCreate(
@@ -60,20 +77,13 @@ class BookingServiceImplTest {
 
     @Test
     void createBookingTestThrowIllegalArgumentExceptionItemHaveBookingInThisDate() {
-        User booker = new User(1, "email@mail.ru", "NameUser");
-        User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        List<Booking> bookingsFromRepository = List.of(
-                new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED),
-                new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
-        );
         BookingDtoCreate bookingDtoCreate = new BookingDtoCreate(
                 0,
                 LocalDateTime.now().plusDays(2),
                 LocalDateTime.now().plusDays(4),
                 1);
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
+        Mockito.when(bookingRepository.existsOverlapping(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(true);
 
         Assertions.assertThrows(IllegalArgumentException.class,
                 () -> bookingService.createBooking(1, bookingDtoCreate));
@@ -83,18 +93,13 @@ class BookingServiceImplTest {
     void createBookingTestThrowDataNotFoundExceptionNotAvailable() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        List<Booking> bookingsFromRepository = List.of(
-                new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED),
-                new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
-        );
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         BookingDtoCreate bookingDtoCreate = new BookingDtoCreate(
                 0,
                 LocalDateTime.now().plusDays(4),
                 LocalDateTime.now().plusDays(5),
                 1);
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(owner));
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
 
@@ -106,18 +111,13 @@ class BookingServiceImplTest {
     void createBookingTestThrowIllegalArgumentExceptionNotAvailable() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", false, owner, null);
-        List<Booking> bookingsFromRepository = List.of(
-                new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED),
-                new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
-        );
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", false, owner, null, new HashSet<>());
         BookingDtoCreate bookingDtoCreate = new BookingDtoCreate(
                 0,
                 LocalDateTime.now().plusDays(4),
                 LocalDateTime.now().plusDays(5),
                 1);
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
 
@@ -130,11 +130,7 @@ class BookingServiceImplTest {
     void createBookingTest() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        List<Booking> bookingsFromRepository = List.of(
-                new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED),
-                new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
-        );
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         BookingDtoCreate bookingDtoCreate = new BookingDtoCreate(
                 0,
                 LocalDateTime.now().plusDays(4),
@@ -149,7 +145,6 @@ class BookingServiceImplTest {
                 BookingStatus.WAITING
         );
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
         Mockito.when(bookingRepository.save(ArgumentMatchers.any())).thenReturn(bookingAfterCreate);
@@ -162,11 +157,25 @@ class BookingServiceImplTest {
         Mockito.verify(bookingRepository).save(ArgumentMatchers.any());
     }
 
+    @Test
+    void createBookingTestThrowIllegalArgumentExceptionOverlapping() {
+        Mockito.when(bookingRepository.existsOverlapping(
+                        ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(true);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBooking(1, new BookingDtoCreate(
+                        0,
+                        LocalDateTime.now().plusDays(3),
+                        LocalDateTime.now().plusDays(6),
+                        1)));
+        Mockito.verify(bookingRepository, Mockito.never()).save(ArgumentMatchers.any());
+    }
+
     @Test
     void confirmationBookingTestThrowEntityNotFoundException() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingAfterCreate = new Booking(
                 3,
                 LocalDateTime.now().plusDays(4),
@@ -176,7 +185,7 @@ class BookingServiceImplTest {
                 BookingStatus.WAITING
         );
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingAfterCreate);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingAfterCreate));
 
         Assertions.assertThrows(EntityNotFoundException.class,
                 () -> bookingService.confirmationBooking(1, 3, true));
@@ -186,7 +195,7 @@ class BookingServiceImplTest {
     void confirmationBookingTestThrowIllegalArgumentExceptionNotOwner() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingAfterCreate = new Booking(
                 3,
                 LocalDateTime.now().plusDays(4),
@@ -196,7 +205,7 @@ class BookingServiceImplTest {
                 BookingStatus.WAITING
         );
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingAfterCreate);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingAfterCreate));
 
         Assertions.assertThrows(IllegalArgumentException.class,
                 () -> bookingService.confirmationBooking(3, 3, true));
@@ -206,7 +215,7 @@ class BookingServiceImplTest {
     void confirmationBookingTestThrowIllegalArgumentExceptionIsApproved() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingAfterCreate = new Booking(
                 3,
                 LocalDateTime.now().plusDays(4),
@@ -216,7 +225,7 @@ class BookingServiceImplTest {
                 BookingStatus.APPROVED
         );
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingAfterCreate);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingAfterCreate));
 
         Assertions.assertThrows(IllegalArgumentException.class,
                 () -> bookingService.confirmationBooking(2, 3, true));
@@ -226,7 +235,7 @@ class BookingServiceImplTest {
     void confirmationBookingTestApproved() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingAfterCreate = new Booking(
                 3,
                 LocalDateTime.now().plusDays(4),
@@ -244,7 +253,7 @@ class BookingServiceImplTest {
                 BookingStatus.APPROVED
         );
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingAfterCreate);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingAfterCreate));
         Mockito.when(bookingRepository.save(ArgumentMatchers.any())).thenReturn(bookingAfterApproved);
 
         BookingDto bookingDtoResult = bookingService.confirmationBooking(2, 3, true);
@@ -257,7 +266,7 @@ class BookingServiceImplTest {
     void confirmationBookingTestRejected() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingAfterCreate = new Booking(
                 3,
                 LocalDateTime.now().plusDays(4),
@@ -275,7 +284,7 @@ class BookingServiceImplTest {
                 BookingStatus.REJECTED
         );
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingAfterCreate);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingAfterCreate));
         Mockito.when(bookingRepository.save(ArgumentMatchers.any())).thenReturn(bookingAfterApproved);
 
         BookingDto bookingDtoResult = bookingService.confirmationBooking(2, 3, false);
@@ -289,7 +298,7 @@ class BookingServiceImplTest {
     void getBookingByIdTestThrowDataNotFound() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromRepository = new Booking(1,
                 LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(3),
@@ -297,7 +306,7 @@ class BookingServiceImplTest {
                 booker,
                 BookingStatus.APPROVED);
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingFromRepository);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingFromRepository));
 
         Assertions.assertThrows(DataNotFound.class,
                 () -> bookingService.getBookingById(3, 1));
@@ -307,7 +316,7 @@ class BookingServiceImplTest {
     void getBookingByIdTest() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromRepository = new Booking(1,
                 LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(3),
@@ -315,7 +324,7 @@ class BookingServiceImplTest {
                 booker,
                 BookingStatus.APPROVED);
 
-        Mockito.when(bookingRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(bookingFromRepository);
+        Mockito.when(bookingRepository.findDetailedById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(bookingFromRepository));
 
         BookingDto bookingDtoResult = bookingService.getBookingById(1, 1);
         Assertions.assertEquals(1, bookingDtoResult.getId());
@@ -325,7 +334,7 @@ class BookingServiceImplTest {
     void getAllBookingsByBookerTestStateAll() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromFuture = new Booking(
                 1,
                 LocalDateTime.now().plusDays(4),
@@ -352,7 +361,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromFuture, bookingFromPast, bookingFromCurrent);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByBookerId(ArgumentMatchers.anyLong())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByBooker(1, "ALL", 0, 20);
         Assertions.assertEquals(3, bookingDtoResult.size());
@@ -363,7 +372,7 @@ class BookingServiceImplTest {
         int end = Math.min((start + pageRequest.getPageSize()), allBookings.size());
         List<Booking> pageContent = allBookings.subList(start, end);
 
-        Mockito.when(bookingRepository.findByBookerIdOrderByStartDesc(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(new PageImpl<>(pageContent, pageRequest, allBookings.size()));
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(pageContent), pageRequest, true));
 
         bookingDtoResult = bookingService.getAllBookingsByBooker(1, "ALL", 1, 1);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -374,7 +383,7 @@ class BookingServiceImplTest {
         LocalDateTime currentTime = LocalDateTime.now();
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromPast = new Booking(
                 2,
                 LocalDateTime.now().minusMonths(1),
@@ -385,7 +394,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromPast);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByBookerIdAndEndIsBefore(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByBooker(1, "PAST", 0, 20);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -395,7 +404,7 @@ class BookingServiceImplTest {
     void getAllBookingsByBookerTestStateCurrent() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromCurrent = new Booking(
                 3,
                 LocalDateTime.now().minusDays(2),
@@ -407,7 +416,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromCurrent);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsAfter(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByBooker(1, "CURRENT", 0, 20);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -417,7 +426,7 @@ class BookingServiceImplTest {
     void getAllBookingsByBookerTestStateFuture() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromFuture = new Booking(
                 1,
                 LocalDateTime.now().plusDays(4),
@@ -429,7 +438,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromFuture);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByBookerIdAndStartIsAfter(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByBooker(1, "FUTURE", 0, 20);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -439,7 +448,7 @@ class BookingServiceImplTest {
     void getAllBookingsByBookerTestStateApproved() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromFuture = new Booking(
                 1,
                 LocalDateTime.now().plusDays(4),
@@ -466,7 +475,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromFuture, bookingFromPast, bookingFromCurrent);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByBookerIdAndStatus(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByBooker(1, "APPROVED", 0, 20);
         Assertions.assertEquals(3, bookingDtoResult.size());
@@ -505,7 +514,7 @@ class BookingServiceImplTest {
     void getAllBookingsByOwnerTestTateAll() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromFuture = new Booking(
                 1,
                 LocalDateTime.now().plusDays(4),
@@ -532,7 +541,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromFuture, bookingFromPast, bookingFromCurrent);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByItemOwnerId(ArgumentMatchers.anyLong())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByOwner(1, "ALL", 0, 5);
         Assertions.assertEquals(3, bookingDtoResult.size());
@@ -543,7 +552,7 @@ class BookingServiceImplTest {
         int end = Math.min((start + pageRequest.getPageSize()), allBookings.size());
         List<Booking> pageContent = allBookings.subList(start, end);
 
-        Mockito.when(bookingRepository.findByItemOwnerIdOrderByStartDesc(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(new PageImpl<>(pageContent, pageRequest, allBookings.size()));
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(pageContent), pageRequest, true));
 
         bookingDtoResult = bookingService.getAllBookingsByOwner(1, "ALL", 1, 1);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -553,7 +562,7 @@ class BookingServiceImplTest {
     void getAllBookingsByOwnerTestTateCurrent() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromCurrent = new Booking(
                 3,
                 LocalDateTime.now().minusDays(2),
@@ -565,7 +574,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromCurrent);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsAfter(ArgumentMatchers.anyLong(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByOwner(1, "CURRENT", 0, 5);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -575,7 +584,7 @@ class BookingServiceImplTest {
     void getAllBookingsByOwnerTestTateFuture() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromFuture = new Booking(
                 1,
                 LocalDateTime.now().plusDays(4),
@@ -587,7 +596,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromFuture);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByItemOwnerIdAndStartIsAfter(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByOwner(1, "FUTURE", 0, 5);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -597,7 +606,7 @@ class BookingServiceImplTest {
     void getAllBookingsByOwnerTestTatePast() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromPast = new Booking(
                 2,
                 LocalDateTime.now().minusMonths(1),
@@ -608,7 +617,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromPast);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByItemOwnerIdAndEndIsBefore(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByOwner(1, "PAST", 0, 5);
         Assertions.assertEquals(1, bookingDtoResult.size());
@@ -618,7 +627,7 @@ class BookingServiceImplTest {
     void getAllBookingsByOwnerTestTateApproved() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         Booking bookingFromFuture = new Booking(
                 1,
                 LocalDateTime.now().plusDays(4),
@@ -645,7 +654,7 @@ class BookingServiceImplTest {
         List<Booking> bookings = List.of(bookingFromFuture, bookingFromPast, bookingFromCurrent);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
-        Mockito.when(bookingRepository.findByItemOwnerIdAndStatus(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(bookings);
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(new SliceImpl<>(toBookingDtos(bookings)));
 
         List<BookingDto> bookingDtoResult = bookingService.getAllBookingsByOwner(1, "APPROVED", 0, 5);
         Assertions.assertEquals(3, bookingDtoResult.size());
@@ -679,6 +688,49 @@ class BookingServiceImplTest {
                 () -> bookingService.getAllBookingsByOwner(1, "ERROR", 0, 5));
     }
 
+    @Test
+    void getAllBookingsByBookerAfterTest() {
+        User booker = new User(1, "email@mail.ru", "NameUser");
+        User owner = new User(2, "email2@mail.ru", "NameUser2");
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
+        LocalDateTime start = LocalDateTime.now().plusDays(4);
+        Booking booking = new Booking(1, start, start.plusDays(1), itemForBooking, booker, BookingStatus.APPROVED);
+        String after = new BookingCursor(start.plusDays(1), 5).encode();
+
+        Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.eq(PageRequest.of(0, 1, BookingSpecifications.NEWEST_FIRST))))
+                .thenReturn(new SliceImpl<>(toBookingDtos(List.of(booking)), PageRequest.of(0, 1), true));
+
+        Slice<BookingDto> bookingDtoResult = bookingService.getAllBookingsByBookerAfter(1, "ALL", after, 1);
+        Assertions.assertEquals(1, bookingDtoResult.getContent().size());
+        Assertions.assertEquals(new BookingCursor(start, 1).encode(), BookingCursor.next(bookingDtoResult));
+    }
+
+    @Test
+    void getAllBookingsByOwnerAfterTestFirstSlice() {
+        User booker = new User(1, "email@mail.ru", "NameUser");
+
+        Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
+        Mockito.when(bookingRepository.findSlice(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 5), false));
+
+        Slice<BookingDto> bookingDtoResult = bookingService.getAllBookingsByOwnerAfter(1, "ALL", "", 5);
+        Assertions.assertTrue(bookingDtoResult.getContent().isEmpty());
+        Assertions.assertNull(BookingCursor.next(bookingDtoResult));
+    }
+
+    @Test
+    void getAllBookingsByBookerAfterTestThrowIllegalArgumentException() {
+        User booker = new User(1, "email@mail.ru", "NameUser");
+
+        Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> bookingService.getAllBookingsByBookerAfter(1, "ALL", "broken", 5));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> bookingService.getAllBookingsByBookerAfter(1, "FUTURE", "", 0));
+    }
+
     @Test
     void getAllBooking() {
     }
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.deadline;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+import static ru.practicum.shareit.constans.Constants.DEADLINE_HEADER_NAME;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DeadlineIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void clearDeadline() {
+        Deadline.clear();
+    }
+
+    @Test
+    @SneakyThrows
+    void expiredDeadlineTest() {
+        mockMvc.perform(MockMvcRequestBuilders.get("/users").header(DEADLINE_HEADER_NAME, "0"))
+                .andExpect(MockMvcResultMatchers.status().isGatewayTimeout());
+        mockMvc.perform(MockMvcRequestBuilders.get("/users").header(DEADLINE_HEADER_NAME, "5000"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    void transactionTimeoutTest() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status ->
+                Assertions.assertTrue(timeToLiveInMillis() <= 30_000));
+
+        Deadline.start(1500);
+        transactionTemplate.executeWithoutResult(status ->
+                Assertions.assertTrue(timeToLiveInMillis() <= 2000));
+
+        Deadline.start(-1);
+        Assertions.assertThrows(TransactionTimedOutException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                }));
+    }
+
+    private long timeToLiveInMillis() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        Assertions.assertTrue(holder.hasTimeout());
+        return holder.getTimeToLiveInMillis();
+    }
+}
@@ -19,10 +19,13 @@ import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.constans.Constants;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @WebMvcTest(controllers = ItemController.class)
 class ItemControllerTest {
@@ -73,8 +76,8 @@ class ItemControllerTest {
     @SneakyThrows
     @Test
     void createItem() {
-        ItemDto itemAfter = new ItemDto(1, "Hammer", "Big hammer", true, 0);
-        ItemDto itemBefore = new ItemDto(0, "Hammer", "Big hammer", true, 0);
+        ItemDto itemAfter = new ItemDto(1, "Hammer", "Big hammer", true, 0, null);
+        ItemDto itemBefore = new ItemDto(0, "Hammer", "Big hammer", true, 0, null);
 
         Mockito.when(itemService.createItem(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(itemAfter);
 
@@ -94,8 +97,8 @@ class ItemControllerTest {
     @SneakyThrows
     @Test
     void updateItem() {
-        ItemDto itemDtoForUpdate = new ItemDto(0, null, "Very Big hammer", null, 0);
-        ItemDto itemDtoAfterUpdate = new ItemDto(1, "Hammer", "Very Big hammer", true, 0);
+        ItemDto itemDtoForUpdate = new ItemDto(0, null, "Very Big hammer", null, 0, null);
+        ItemDto itemDtoAfterUpdate = new ItemDto(1, "Hammer", "Very Big hammer", true, 0, null);
 
         Mockito.when(itemService.updateItem(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(itemDtoAfterUpdate);
 
@@ -130,7 +133,7 @@ class ItemControllerTest {
     void getAllItemByOwner() {
         List<ItemDtoWithBookingAndComments> items = getItemsForTest();
 
-        Mockito.when(itemService.getAllItemByOwner(ArgumentMatchers.anyLong())).thenReturn(items);
+        Mockito.when(itemService.getAllItemByOwner(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt())).thenReturn(items);
 
         mockMvc.perform((MockMvcRequestBuilders.get("/items"))
                         .header(Constants.REQUEST_HEADER_NAME, 1)
@@ -140,14 +143,27 @@ class ItemControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(items)));
     }
 
+    @SneakyThrows
+    @Test
+    void suggestTest() {
+        List<String> suggestions = List.of("knife", "knight");
+
+        Mockito.when(itemService.suggest("kni", 10)).thenReturn(suggestions);
+
+        mockMvc.perform((MockMvcRequestBuilders.get("/items/suggest?prefix=kni"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(suggestions)));
+    }
+
     @SneakyThrows
     @Test
     void searchByNameAndDescription() {
-        ItemDto item2 = new ItemDto(2, "Knife", "Small", true, 0);
-        ItemDto item3 = new ItemDto(3, "Sword", "Sword of knight", true, 0);
+        ItemDto item2 = new ItemDto(2, "Knife", "Small", true, 0, null);
+        ItemDto item3 = new ItemDto(3, "Sword", "Sword of knight", true, 0, null);
         List<ItemDto> itemSearchResult = List.of(item2, item3);
 
-        Mockito.when(itemService.search(ArgumentMatchers.anyString())).thenReturn(itemSearchResult);
+        Mockito.when(itemService.search(ArgumentMatchers.anyString(), ArgumentMatchers.isNull(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyBoolean())).thenReturn(itemSearchResult);
 
         mockMvc.perform((MockMvcRequestBuilders.get("/items/search?text=kni"))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -156,6 +172,20 @@ class ItemControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(itemSearchResult)));
     }
 
+    @SneakyThrows
+    @Test
+    void searchWithFacets() {
+        ItemDto item = new ItemDto(2, "Knife", "Small", true, 0, Set.of("кухня"));
+        ItemSearchResultDto searchResult = new ItemSearchResultDto(List.of(item), Map.of("кухня", 1, "инструменты", 1));
+
+        Mockito.when(itemService.searchWithFacets("kni", "кухня", 0, 10, false)).thenReturn(searchResult);
+
+        mockMvc.perform((MockMvcRequestBuilders.get("/items/search?text=kni&tag=кухня&facets=true"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(searchResult)));
+    }
+
     @SneakyThrows
     @Test
     void createComment() {
@@ -0,0 +1,221 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemSearchResultDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+    @Mock
+    ItemRepository itemRepository;
+
+    private ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        itemSearchIndex = new ItemSearchIndex(itemRepository);
+    }
+
+    @Test
+    void rebuildTest() {
+        User user = new User(1, "NameUser@mail.ru", "NameUser");
+        Mockito.when(itemRepository.findAll(ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(
+                        new Item(1, "Hammer", "Big hammer", true, user, null, new HashSet<>()),
+                        new Item(2, "Knife", "Small", true, user, null, new HashSet<>()),
+                        new Item(3, "Sword", "Sword of knight", true, user, null, new HashSet<>()))));
+        itemSearchIndex.index(new ItemDto(4, "Knitting needles", "Old", true, 0, null));
+
+        itemSearchIndex.rebuild();
+
+        Assertions.assertEquals(List.of(2L, 3L), searchIds("Kni", 0, 10, false));
+    }
+
+    @Test
+    void rebuildKeepsUpdatesCommittedDuringSnapshotTest() {
+        User user = new User(1, "NameUser@mail.ru", "NameUser");
+        Mockito.when(itemRepository.findAll(ArgumentMatchers.any(Pageable.class))).thenAnswer(invocation -> {
+            itemSearchIndex.index(new ItemDto(1, "Axe", "Big axe", true, 0, null));
+            return new PageImpl<>(List.of(new Item(1, "Hammer", "Big hammer", true, user, null, new HashSet<>())));
+        });
+
+        itemSearchIndex.rebuild();
+
+        Assertions.assertEquals(List.of(1L), searchIds("axe", 0, 10, false));
+        Assertions.assertEquals(List.of(), searchIds("hammer", 0, 10, false));
+    }
+
+    @Test
+    void rankingIgnoresDeletedAndUnavailableDocumentsTest() {
+        itemSearchIndex.index(new ItemDto(1, "Дрель", "Молоток", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Молоток", "Дрель", true, 0, null));
+        itemSearchIndex.index(new ItemDto(3, "Молоток", "Большой", true, 0, null));
+        Assertions.assertEquals(List.of(1L, 2L), searchIds("дрель молоток", 0, 10, false));
+
+        for (long id = 10; id < 15; id++) {
+            itemSearchIndex.index(new ItemDto(id, "Дрель", "Старая", false, 0, null));
+        }
+        itemSearchIndex.index(new ItemDto(20, "Дрель", "Новая", true, 0, null));
+        itemSearchIndex.index(new ItemDto(20, "Пила", "Новая", true, 0, null));
+
+        Assertions.assertEquals(List.of(1L, 2L), searchIds("дрель молоток", 0, 10, false));
+    }
+
+    @Test
+    void searchRankingTest() {
+        itemSearchIndex.index(new ItemDto(1, "Дрель", "Простая дрель", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Отвёртка", "Аккумуляторная отвертка", true, 0, null));
+        itemSearchIndex.index(new ItemDto(3, "Аккумуляторная дрель", "Дрель с аккумулятором", true, 0, null));
+        itemSearchIndex.index(new ItemDto(4, "Перфоратор", "Мощнее, чем дрель", true, 0, null));
+
+        Assertions.assertEquals(List.of(1L, 3L, 4L), searchIds("дрель", 0, 10, false));
+        Assertions.assertEquals(List.of(3L, 2L), searchIds("аккУМУляторная", 0, 10, false));
+        Assertions.assertEquals(List.of(3L), searchIds("дрель аккум", 0, 10, false));
+        Assertions.assertEquals(List.of(2L), searchIds("ОТВЁРТКА", 0, 10, false));
+        Assertions.assertEquals(List.of(), searchIds("пила", 0, 10, false));
+        Assertions.assertEquals(List.of(), searchIds("  ,. ", 0, 10, false));
+    }
+
+    @Test
+    void searchInflectedFormsTest() {
+        itemSearchIndex.index(new ItemDto(1, "Дрель", "Дрель с набором свёрл", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Набор отвёрток", "Отвёртки крестовые и плоские", true, 0, null));
+        itemSearchIndex.index(new ItemDto(3, "Палатка", "Туристическая палатка на двоих", true, 0, null));
+
+        Assertions.assertEquals(List.of(1L), searchIds("дрели", 0, 10, false));
+        Assertions.assertEquals(List.of(1L), searchIds("дрелью", 0, 10, false));
+        Assertions.assertEquals(List.of(2L), searchIds("отвертка", 0, 10, false));
+        Assertions.assertEquals(List.of(2L, 1L), searchIds("наборы", 0, 10, false));
+        Assertions.assertEquals(List.of(3L), searchIds("палатки туристические", 0, 10, false));
+    }
+
+    @Test
+    void searchPagingTest() {
+        for (long id = 1; id <= 5; id++) {
+            itemSearchIndex.index(new ItemDto(id, "Hammer " + id, "Hammer", true, 0, null));
+        }
+
+        Assertions.assertEquals(List.of(1L, 2L), searchIds("hammer", 0, 2, false));
+        Assertions.assertEquals(List.of(3L, 4L), searchIds("hammer", 2, 2, false));
+        Assertions.assertEquals(List.of(5L), searchIds("hammer", 4, 2, false));
+        Assertions.assertEquals(List.of(), searchIds("hammer", 5, 2, false));
+    }
+
+    @Test
+    void updateTest() {
+        itemSearchIndex.index(new ItemDto(1, "Hammer", "Big hammer", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Saw", "Sharp saw", true, 0, null));
+
+        itemSearchIndex.index(new ItemDto(1, "Axe", "Big axe", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Saw", "Sharp saw", false, 0, null));
+
+        Assertions.assertEquals(List.of(), searchIds("hammer", 0, 10, false));
+        Assertions.assertEquals(List.of(1L), searchIds("axe", 0, 10, false));
+        Assertions.assertEquals(List.of(), searchIds("saw", 0, 10, false));
+    }
+
+    @Test
+    void updateManyTimesTest() {
+        itemSearchIndex.index(new ItemDto(1, "Hammer", "Big hammer", true, 0, null));
+        for (int version = 0; version < 3000; version++) {
+            itemSearchIndex.index(new ItemDto(2, "Saw " + version, "Sharp saw", version % 2 == 0, 0, null));
+        }
+
+        Assertions.assertEquals(List.of(1L), searchIds("hammer", 0, 10, false));
+        Assertions.assertEquals(List.of(), searchIds("saw", 0, 10, false));
+        Assertions.assertEquals(List.of(), searchIds("2998", 0, 10, false));
+        itemSearchIndex.index(new ItemDto(2, "Saw", "Sharp saw", true, 0, null));
+        Assertions.assertEquals(List.of(2L), searchIds("saw", 0, 10, true));
+        Assertions.assertEquals(List.of("saw"), itemSearchIndex.suggest("s", 10));
+    }
+
+    @Test
+    void fuzzySearchTest() {
+        itemSearchIndex.index(new ItemDto(1, "Дрель", "Простая дрель", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Перфоратор", "Мощный", true, 0, null));
+        itemSearchIndex.index(new ItemDto(3, "Дрезина", "Ручная", true, 0, null));
+        itemSearchIndex.index(new ItemDto(4, "Пила", "Острая", true, 0, null));
+
+        Assertions.assertEquals(List.of(), searchIds("дрэль", 0, 10, false));
+        Assertions.assertEquals(List.of(1L), searchIds("дрэль", 0, 10, true));
+        Assertions.assertEquals(List.of(1L), searchIds("дрелъ", 0, 10, true));
+        Assertions.assertEquals(List.of(2L), searchIds("пирфаратор", 0, 10, true));
+        Assertions.assertEquals(List.of(), searchIds("пирфаратр", 0, 10, true));
+        Assertions.assertEquals(List.of(1L, 3L), searchIds("дре", 0, 10, true));
+        Assertions.assertEquals(List.of(), searchIds("пл", 0, 10, true));
+        Assertions.assertEquals(List.of(2L), searchIds("мощьный перфоратор", 0, 10, true));
+    }
+
+    @Test
+    void suggestTest() {
+        itemSearchIndex.index(new ItemDto(1, "Дрель ударная", "Дрель", true, 0, null));
+        itemSearchIndex.index(new ItemDto(2, "Дрель", "Простая дрель", true, 0, null));
+        itemSearchIndex.index(new ItemDto(3, "Дрезина", "Ручная дрезина", true, 0, null));
+        itemSearchIndex.index(new ItemDto(4, "Дробилка", "Дробит", false, 0, null));
+
+        Assertions.assertEquals(List.of("дрель", "дрезина"), itemSearchIndex.suggest("Др", 10));
+        Assertions.assertEquals(List.of("дрель"), itemSearchIndex.suggest("ударная Др", 1));
+        Assertions.assertEquals(List.of(), itemSearchIndex.suggest("руч", 10));
+
+        itemSearchIndex.index(new ItemDto(3, "Дрезина", "Ручная дрезина", false, 0, null));
+        itemSearchIndex.index(new ItemDto(4, "Дробилка", "Дробит", true, 0, null));
+        Assertions.assertEquals(List.of("дрель", "дробилка"), itemSearchIndex.suggest("др", 10));
+    }
+
+    @Test
+    void facetsTest() {
+        itemSearchIndex.index(new ItemDto(1, "Дрель ударная", "Дрель", true, 0, Set.of("инструменты", "ремонт")));
+        itemSearchIndex.index(new ItemDto(2, "Дрель", "Простая дрель", true, 0, Set.of("инструменты")));
+        itemSearchIndex.index(new ItemDto(3, "Палатка", "Туристическая палатка", true, 0, Set.of("туризм")));
+        itemSearchIndex.index(new ItemDto(4, "Дрель", "Сломанная дрель", false, 0, Set.of("инструменты")));
+
+        ItemSearchResultDto result = itemSearchIndex.searchWithFacets("дрель", null, 0, 10, false);
+        Assertions.assertEquals(List.of(1L, 2L), ids(result.getItems()));
+        Assertions.assertEquals(List.of(Map.entry("инструменты", 2), Map.entry("ремонт", 1)),
+                List.copyOf(result.getFacets().entrySet()));
+
+        result = itemSearchIndex.searchWithFacets("дрель", "ремонт", 0, 10, false);
+        Assertions.assertEquals(List.of(1L), ids(result.getItems()));
+        Assertions.assertEquals(Map.of("инструменты", 2, "ремонт", 1), result.getFacets());
+
+        result = itemSearchIndex.searchWithFacets("", null, 0, 10, false);
+        Assertions.assertEquals(List.of(), result.getItems());
+        Assertions.assertEquals(Map.of("инструменты", 2, "ремонт", 1, "туризм", 1), result.getFacets());
+
+        Assertions.assertEquals(List.of(1L, 2L), ids(itemSearchIndex.search("", "инструменты", 0, 10, false)));
+        Assertions.assertEquals(List.of(), ids(itemSearchIndex.search("палатка", "инструменты", 0, 10, false)));
+        Assertions.assertEquals(List.of(), ids(itemSearchIndex.search("", "садоводство", 0, 10, false)));
+
+        itemSearchIndex.index(new ItemDto(1, "Дрель ударная", "Дрель", true, 0, Set.of()));
+        result = itemSearchIndex.searchWithFacets("дрель", null, 0, 10, false);
+        Assertions.assertEquals(Map.of("инструменты", 1), result.getFacets());
+    }
+
+    private List<Long> searchIds(String text, int from, int size, boolean fuzzy) {
+        return ids(itemSearchIndex.search(text, null, from, size, fuzzy));
+    }
+
+    private static List<Long> ids(List<ItemDto> items) {
+        return items.stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+}
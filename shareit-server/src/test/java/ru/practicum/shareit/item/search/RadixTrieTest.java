@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class RadixTrieTest {
+
+    @Test
+    void suggestByCountTest() {
+        RadixTrie trie = new RadixTrie();
+        trie.add("дрель");
+        trie.add("дрель");
+        trie.add("дрезина");
+        trie.add("дробь");
+        trie.add("дробь");
+        trie.add("дробь");
+        trie.add("доска");
+
+        Assertions.assertEquals(List.of("дробь", "дрель", "дрезина"), trie.suggest("др", 10));
+        Assertions.assertEquals(List.of("дробь", "дрель"), trie.suggest("д", 2));
+        Assertions.assertEquals(List.of("дрель", "дрезина"), trie.suggest("дре", 10));
+        Assertions.assertEquals(List.of("дрезина"), trie.suggest("дрез", 10));
+        Assertions.assertEquals(List.of("дрель"), trie.suggest("дрель", 10));
+        Assertions.assertEquals(List.of(), trie.suggest("дрели", 10));
+        Assertions.assertEquals(List.of(), trie.suggest("пила", 10));
+    }
+
+    @Test
+    void suggestPrefixOfAnotherTermTest() {
+        RadixTrie trie = new RadixTrie();
+        trie.add("пила");
+        trie.add("пилка");
+        trie.add("пил");
+
+        Assertions.assertEquals(List.of("пил", "пила", "пилка"), trie.suggest("пи", 10));
+    }
+
+    @Test
+    void removeTest() {
+        RadixTrie trie = new RadixTrie();
+        trie.add("дрель");
+        trie.add("дрезина");
+        trie.add("дробь");
+        trie.add("дробь");
+
+        trie.remove("дробь");
+        Assertions.assertEquals(List.of("дрезина", "дрель", "дробь"), trie.suggest("др", 10));
+        trie.remove("дробь");
+        trie.remove("дрезина");
+        trie.remove("молоток");
+        Assertions.assertEquals(List.of("дрель"), trie.suggest("др", 10));
+        Assertions.assertEquals(List.of("дрель"), trie.suggest("дре", 10));
+
+        trie.add("дрезина");
+        trie.remove("дрель");
+        trie.remove("дрель");
+        Assertions.assertEquals(List.of("дрезина"), trie.suggest("д", 10));
+    }
+
+    @Test
+    void withinDistanceTest() {
+        RadixTrie trie = new RadixTrie();
+        trie.add("дрель");
+        trie.add("дрезина");
+        trie.add("дробь");
+        trie.add("модель");
+
+        Assertions.assertEquals(Map.of("дрель", 0), trie.withinDistance("дрель", 0));
+        Assertions.assertEquals(Map.of("дрель", 1), trie.withinDistance("дрел", 1));
+        Assertions.assertEquals(Map.of("дробь", 1, "дрель", 2), trie.withinDistance("дрбь", 2));
+        Assertions.assertEquals(Map.of(), trie.withinDistance("пила", 2));
+    }
+}
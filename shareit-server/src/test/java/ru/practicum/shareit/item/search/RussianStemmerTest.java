@@ -0,0 +1,27 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RussianStemmerTest {
+
+    @Test
+    void stemTest() {
+        Assertions.assertEquals("дрел", RussianStemmer.stem("дрель"));
+        Assertions.assertEquals("дрел", RussianStemmer.stem("дрели"));
+        Assertions.assertEquals("дрел", RussianStemmer.stem("дрелью"));
+        Assertions.assertEquals("отвертк", RussianStemmer.stem("отвертка"));
+        Assertions.assertEquals("отвертк", RussianStemmer.stem("отвертки"));
+        Assertions.assertEquals("отвертк", RussianStemmer.stem("отверткой"));
+        Assertions.assertEquals("аккумуляторн", RussianStemmer.stem("аккумуляторная"));
+        Assertions.assertEquals("аккумуляторн", RussianStemmer.stem("аккумуляторный"));
+        Assertions.assertEquals("велосипед", RussianStemmer.stem("велосипедов"));
+        Assertions.assertEquals("ключ", RussianStemmer.stem("ключей"));
+        Assertions.assertEquals("красив", RussianStemmer.stem("красивейший"));
+        Assertions.assertEquals("прочита", RussianStemmer.stem("прочитавши"));
+        Assertions.assertEquals("одева", RussianStemmer.stem("одеваться"));
+        Assertions.assertEquals("ценност", RussianStemmer.stem("ценность"));
+        Assertions.assertEquals("hammer", RussianStemmer.stem("hammer"));
+        Assertions.assertEquals("мкр", RussianStemmer.stem("мкр"));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.dto.BookingDtoCreate;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
@@ -16,7 +17,11 @@ import ru.practicum.shareit.user.userDto.UserDto;
 import ru.practicum.shareit.user.userDto.UserMapper;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @SpringBootTest
@@ -37,9 +42,9 @@ class ItemServiceImplIntegrationTest {
         UserDto booker = userService.create(new UserDto(0, "email@mail.ru", "NameUser"));
         UserDto owner1 = userService.create(new UserDto(0, "email2@mail.ru", "NameUser2"));
         UserDto owner2 = userService.create(new UserDto(0, "email3@mail.ru", "NameUser3"));
-        Item itemForBooking1 = new Item(1, "Hammer", "Big hammer", true, UserMapper.toUser(owner1), null);
-        Item itemForBooking2 = new Item(2, "Glasses", "Big Glasses", true, UserMapper.toUser(owner1), null);
-        Item itemForBooking3 = new Item(3, "Camera", "Professional camera", true, UserMapper.toUser(owner2), null);
+        Item itemForBooking1 = new Item(1, "Hammer", "Big hammer", true, UserMapper.toUser(owner1), null, new HashSet<>());
+        Item itemForBooking2 = new Item(2, "Glasses", "Big Glasses", true, UserMapper.toUser(owner1), null, new HashSet<>());
+        Item itemForBooking3 = new Item(3, "Camera", "Professional camera", true, UserMapper.toUser(owner2), null, new HashSet<>());
         long itemId1 = itemRepository.save(itemForBooking1).getId();
         itemRepository.save(itemForBooking2).getId();
         itemRepository.save(itemForBooking3).getId();
@@ -71,10 +76,27 @@ class ItemServiceImplIntegrationTest {
                 new CommentDto(0, "Text comment", null, null
                 ));
 
-        List<ItemDtoWithBookingAndComments> itemsFromRepository = itemService.getAllItemByOwner(2);
+        List<ItemDtoWithBookingAndComments> itemsFromRepository = itemService.getAllItemByOwner(2, 0, 10);
         Assertions.assertEquals(2, itemsFromRepository.size());
         Assertions.assertEquals(2, itemsFromRepository.get(0).getComments().size());
         Assertions.assertNotNull(itemsFromRepository.get(0).getNextBooking());
         Assertions.assertNotNull(itemsFromRepository.get(0).getLastBooking());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void tagsTest() {
+        UserDto owner = userService.create(new UserDto(0, "email@mail.ru", "NameUser"));
+        ItemDto item = itemService.createItem(owner.getId(),
+                new ItemDto(0, "Дрель", "Ударная дрель", true, 0, Set.of(" Инструменты", "ремонт", " ")));
+        Assertions.assertEquals(Set.of("инструменты", "ремонт"), item.getTags());
+
+        itemService.updateItem(owner.getId(), item.getId(), new ItemDto(0, null, null, null, 0, Set.of("инструменты")));
+        Assertions.assertEquals(Map.of("инструменты", 1),
+                itemService.searchWithFacets("дрель", null, 0, 10, false).getFacets());
+        Assertions.assertEquals(List.of(item.getId()), itemService.search("", "Инструменты", 0, 10, false).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(), itemService.search("", "ремонт", 0, 10, false));
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,17 +17,23 @@ import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.exception.DataNotFound;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemDtoWithBookingAndComments;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.user.userDto.UserDto;
 import ru.practicum.shareit.user.userDto.UserMapper;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @ExtendWith(MockitoExtension.class)
 class ItemServiceImplTest {
@@ -49,15 +56,17 @@ class ItemServiceImplTest {
                 userService,
                 bookingRepository,
                 commentRepository,
-                itemRequestRepository
+                itemRequestRepository,
+                new ItemDetailsCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                new ItemSearchIndex(itemRepository)
         );
     }
 
     @Test
     void createItemTest() {
         UserDto userDtoFromUserService = new UserDto(1, "email@mail.ru", "NameUser");
-        ItemDto itemDtoBeforeSave = new ItemDto(0, "Hammer", "Big hammer", true, 0);
-        Item itemAfterSave = new Item(1, "Hammer", "Big hammer", true, UserMapper.toUser(userDtoFromUserService), null);
+        ItemDto itemDtoBeforeSave = new ItemDto(0, "Hammer", "Big hammer", true, 0, null);
+        Item itemAfterSave = new Item(1, "Hammer", "Big hammer", true, UserMapper.toUser(userDtoFromUserService), null, new HashSet<>());
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(userDtoFromUserService);
         Mockito.when(itemRepository.save(ArgumentMatchers.any())).thenReturn(itemAfterSave);
@@ -71,16 +80,16 @@ class ItemServiceImplTest {
     void updateItemTestThrowDataNotFoundException() {
         Assertions.assertThrows(
                 DataNotFound.class,
-                () -> itemService.updateItem(1, 1, new ItemDto(0, "Hammer", "Big hammer", true, 0))
+                () -> itemService.updateItem(1, 1, new ItemDto(0, "Hammer", "Big hammer", true, 0, null))
         );
     }
 
     @Test
     void updateItemTest() {
         User owner = new User(1, "email@mail.ru", "NameUser");
-        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        ItemDto itemDtoForUpdate = new ItemDto(0, "NewHammer", "Very Big hammer", true, 0);
-        Item itemAfterUpdate = new Item(1, "NewHammer", "Very Big hammer", true, owner, null);
+        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
+        ItemDto itemDtoForUpdate = new ItemDto(0, "NewHammer", "Very Big hammer", true, 0, null);
+        Item itemAfterUpdate = new Item(1, "NewHammer", "Very Big hammer", true, owner, null, new HashSet<>());
 
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemFromRepository);
         Mockito.when(itemRepository.save(ArgumentMatchers.any())).thenReturn(itemAfterUpdate);
@@ -96,9 +105,9 @@ class ItemServiceImplTest {
     @Test
     void updateItemNameTest() {
         User owner = new User(1, "email@mail.ru", "NameUser");
-        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        ItemDto itemDtoForUpdate = new ItemDto(0, "NewHammer", null, null, 0);
-        Item itemAfterUpdate = new Item(1, "NewHammer", "Big hammer", true, owner, null);
+        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
+        ItemDto itemDtoForUpdate = new ItemDto(0, "NewHammer", null, null, 0, null);
+        Item itemAfterUpdate = new Item(1, "NewHammer", "Big hammer", true, owner, null, new HashSet<>());
 
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemFromRepository);
         Mockito.when(itemRepository.save(ArgumentMatchers.any())).thenReturn(itemAfterUpdate);
@@ -114,9 +123,9 @@ class ItemServiceImplTest {
     @Test
     void updateItemDescriptionTest() {
         User owner = new User(1, "email@mail.ru", "NameUser");
-        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        ItemDto itemDtoForUpdate = new ItemDto(0, null, "Very Big hammer", null, 0);
-        Item itemAfterUpdate = new Item(1, "Hammer", "Very Big hammer", true, owner, null);
+        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
+        ItemDto itemDtoForUpdate = new ItemDto(0, null, "Very Big hammer", null, 0, null);
+        Item itemAfterUpdate = new Item(1, "Hammer", "Very Big hammer", true, owner, null, new HashSet<>());
 
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemFromRepository);
         Mockito.when(itemRepository.save(ArgumentMatchers.any())).thenReturn(itemAfterUpdate);
@@ -132,9 +141,9 @@ class ItemServiceImplTest {
     @Test
     void updateItemAvailableTest() {
         User owner = new User(1, "email@mail.ru", "NameUser");
-        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null);
-        ItemDto itemDtoForUpdate = new ItemDto(0, null, null, false, 0);
-        Item itemAfterUpdate = new Item(1, "Hammer", "Big hammer", false, owner, null);
+        Item itemFromRepository = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
+        ItemDto itemDtoForUpdate = new ItemDto(0, null, null, false, 0, null);
+        Item itemAfterUpdate = new Item(1, "Hammer", "Big hammer", false, owner, null, new HashSet<>());
 
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemFromRepository);
         Mockito.when(itemRepository.save(ArgumentMatchers.any())).thenReturn(itemAfterUpdate);
@@ -151,7 +160,7 @@ class ItemServiceImplTest {
     void getItemByIdTest() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         List<Booking> bookingsFromRepository = List.of(
                 new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED),
                 new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
@@ -161,7 +170,7 @@ class ItemServiceImplTest {
                 new Comment(2, "Comment text2", itemForBooking, booker, LocalDateTime.now().minusDays(1))
         );
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
+        Mockito.when(bookingRepository.findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(bookingsFromRepository);
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
         Mockito.when(commentRepository.findAllByItemId(ArgumentMatchers.anyLong())).thenReturn(comments);
 
@@ -175,11 +184,47 @@ class ItemServiceImplTest {
         Assertions.assertEquals(2, itemDtoWithBookingAndComments.getComments().size());
     }
 
+    @Test
+    void getItemByIdTestCachedForOwnerAndOtherUsers() {
+        User booker = new User(1, "email@mail.ru", "NameUser");
+        User owner = new User(2, "email2@mail.ru", "NameUser2");
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
+        List<Booking> bookingsFromRepository = List.of(
+                new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED),
+                new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
+        );
+
+        Mockito.when(bookingRepository.findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(bookingsFromRepository);
+        Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
+        Mockito.when(commentRepository.findAllByItemId(ArgumentMatchers.anyLong())).thenReturn(List.of());
+
+        ItemDtoWithBookingAndComments forOwner = itemService.getItemById(2, 1);
+        ItemDtoWithBookingAndComments forBooker = itemService.getItemById(1, 1);
+        Assertions.assertEquals(2, forOwner.getLastBooking().getId());
+        Assertions.assertEquals(1, forOwner.getNextBooking().getId());
+        Assertions.assertNull(forBooker.getLastBooking());
+        Assertions.assertNull(forBooker.getNextBooking());
+        Assertions.assertEquals("Hammer", forBooker.getName());
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any());
+
+        Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(UserMapper.toUserDto(booker));
+        Mockito.when(bookingRepository.findByBookerIdAndItemIdAndEndIsBefore(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+                .thenReturn(List.of(bookingsFromRepository.get(1)));
+        Mockito.when(commentRepository.save(ArgumentMatchers.any()))
+                .thenReturn(new Comment(1, "Comment text", itemForBooking, booker, LocalDateTime.now()));
+        itemService.createComment(1, 1, new CommentDto(0, "Comment text", null, null));
+
+        itemService.getItemById(1, 1);
+        Mockito.verify(bookingRepository, Mockito.times(2))
+                .findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any());
+    }
+
     @Test
     void getItemByIdTestNextBookingIsEmpty() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         List<Booking> bookingsFromRepository = List.of(
                 new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking, booker, BookingStatus.APPROVED)
         );
@@ -188,7 +233,7 @@ class ItemServiceImplTest {
                 new Comment(2, "Comment text2", itemForBooking, booker, LocalDateTime.now().minusDays(1))
         );
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
+        Mockito.when(bookingRepository.findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(bookingsFromRepository);
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
         Mockito.when(commentRepository.findAllByItemId(ArgumentMatchers.anyLong())).thenReturn(comments);
 
@@ -206,7 +251,7 @@ class ItemServiceImplTest {
     void getItemByIdTestLastBookingIsEmpty() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
         List<Booking> bookingsFromRepository = List.of(
                 new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking, booker, BookingStatus.APPROVED)
         );
@@ -215,7 +260,7 @@ class ItemServiceImplTest {
                 new Comment(2, "Comment text2", itemForBooking, booker, LocalDateTime.now().minusDays(1))
         );
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(bookingsFromRepository);
+        Mockito.when(bookingRepository.findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(bookingsFromRepository);
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
         Mockito.when(commentRepository.findAllByItemId(ArgumentMatchers.anyLong())).thenReturn(comments);
 
@@ -233,14 +278,14 @@ class ItemServiceImplTest {
     void getItemByIdTestBookingIsEmptyWithComments() {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
 
         List<Comment> comments = List.of(
                 new Comment(1, "Comment text", itemForBooking, booker, LocalDateTime.now()),
                 new Comment(2, "Comment text2", itemForBooking, booker, LocalDateTime.now().minusDays(1))
         );
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(List.of());
+        Mockito.when(bookingRepository.findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(List.of());
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
         Mockito.when(commentRepository.findAllByItemId(ArgumentMatchers.anyLong())).thenReturn(comments);
 
@@ -257,9 +302,9 @@ class ItemServiceImplTest {
     @Test
     void getItemByIdTestBookingWithCommentsIsEmpty() {
         User owner = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null);
+        Item itemForBooking = new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>());
 
-        Mockito.when(bookingRepository.findByItemId(ArgumentMatchers.anyLong())).thenReturn(List.of());
+        Mockito.when(bookingRepository.findLastAndNextByItemId(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(List.of());
         Mockito.when(itemRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemForBooking);
         Mockito.when(commentRepository.findAllByItemId(ArgumentMatchers.anyLong())).thenReturn(List.of());
 
@@ -278,9 +323,9 @@ class ItemServiceImplTest {
         User booker = new User(1, "email@mail.ru", "NameUser");
         User owner1 = new User(2, "email2@mail.ru", "NameUser2");
         User owner2 = new User(3, "email3@mail.ru", "NameUser3");
-        Item itemForBooking1 = new Item(1, "Hammer", "Big hammer", true, owner1, null);
-        Item itemForBooking2 = new Item(2, "Glasses", "Big Glasses", true, owner1, null);
-        Item itemForBooking3 = new Item(3, "Camera", "Professional camera", true, owner2, null);
+        Item itemForBooking1 = new Item(1, "Hammer", "Big hammer", true, owner1, null, new HashSet<>());
+        Item itemForBooking2 = new Item(2, "Glasses", "Big Glasses", true, owner1, null, new HashSet<>());
+        Item itemForBooking3 = new Item(3, "Camera", "Professional camera", true, owner2, null, new HashSet<>());
         List<Booking> bookingsFromRepository = List.of(
                 new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForBooking1, booker, BookingStatus.APPROVED),
                 new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForBooking1, booker, BookingStatus.APPROVED)
@@ -291,32 +336,51 @@ class ItemServiceImplTest {
         );
         List<Item> itemsFromRepository = List.of(itemForBooking1, itemForBooking2);
 
-        Mockito.when(itemRepository.findItemByOwnerId(ArgumentMatchers.anyLong())).thenReturn(itemsFromRepository);
-        Mockito.when(bookingRepository.findByItemId(1L)).thenReturn(bookingsFromRepository);
-        Mockito.when(bookingRepository.findByItemId(2L)).thenReturn(List.of());
-        Mockito.when(itemRepository.getReferenceById(1L)).thenReturn(itemForBooking1);
-        Mockito.when(itemRepository.getReferenceById(2L)).thenReturn(itemForBooking2);
-        Mockito.when(commentRepository.findAllByItemId(1L)).thenReturn(comments);
-        Mockito.when(commentRepository.findAllByItemId(2L)).thenReturn(List.of());
+        Mockito.when(itemRepository.findItemByOwnerId(ArgumentMatchers.anyLong(), ArgumentMatchers.any())).thenReturn(itemsFromRepository);
+        Mockito.when(bookingRepository.findByItemIdIn(List.of(1L, 2L))).thenReturn(bookingsFromRepository);
+        Mockito.when(commentRepository.findAllByItemIdIn(List.of(1L, 2L))).thenReturn(comments);
 
-        List<ItemDtoWithBookingAndComments> itemDtoResult = itemService.getAllItemByOwner(1);
+        List<ItemDtoWithBookingAndComments> itemDtoResult = itemService.getAllItemByOwner(1, 0, 10);
         Assertions.assertEquals(2, itemDtoResult.size());
+        Assertions.assertEquals(2, itemDtoResult.get(0).getLastBooking().getId());
+        Assertions.assertEquals(1, itemDtoResult.get(0).getNextBooking().getId());
+        Assertions.assertEquals(2, itemDtoResult.get(0).getComments().size());
+        Assertions.assertNull(itemDtoResult.get(1).getLastBooking());
+        Assertions.assertNull(itemDtoResult.get(1).getNextBooking());
+        Assertions.assertTrue(itemDtoResult.get(1).getComments().isEmpty());
+    }
+
+    @Test
+    void getAllItemByOwnerTestThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> itemService.getAllItemByOwner(1, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> itemService.getAllItemByOwner(1, -1, 10));
     }
 
     @Test
     void searchTest() {
         User user = new User(0, "NameUser@mail.ru", "NameUser");
-        Item item1 = new Item(1, "Hammer", "Big hammer", true, user, null);
-        Item item2 = new Item(2, "Knife", "Small", true, user, null);
-        Item item3 = new Item(3, "Sword", "Sword of knight", true, user, null);
-        List<Item> itemSearchResult = List.of(item2, item3);
-
-        Mockito.when(itemRepository.searchByNameAndDescription(ArgumentMatchers.anyString())).thenReturn(itemSearchResult);
-
-        List<ItemDto> searchResult = itemService.search("Kni");
+        Item item1 = new Item(1, "Hammer", "Big hammer", true, user, null, new HashSet<>());
+        Item item2 = new Item(2, "Knife", "Small", true, user, null, new HashSet<>());
+        Item item3 = new Item(3, "Sword", "Sword of knight", true, user, null, new HashSet<>());
+        Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(new UserDto(0, "NameUser@mail.ru", "NameUser"));
+        Mockito.when(itemRepository.save(ArgumentMatchers.any())).thenReturn(item1, item2, item3);
+        for (Item item : List.of(item1, item2, item3)) {
+            itemService.createItem(0, ItemMapper.toItemDto(item));
+        }
+
+        List<ItemDto> searchResult = itemService.search("Kni", null, 0, 10, false);
         Assertions.assertEquals(2, searchResult.size());
         Assertions.assertEquals(2, searchResult.get(0).getId());
         Assertions.assertEquals(3, searchResult.get(1).getId());
+        Assertions.assertEquals(List.of(), itemService.search(" ", null, 0, 10, false));
+        Assertions.assertEquals(List.of(2L), itemService.search("Knofe", null, 0, 10, true).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> itemService.search("Kni", null, -1, 10, false));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> itemService.search("Kni", null, 0, 0, false));
+        Assertions.assertEquals(List.of("knife"), itemService.suggest("Kni", 10));
+        Assertions.assertEquals(Map.of(), itemService.searchWithFacets("Kni", null, 0, 10, false).getFacets());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> itemService.suggest("Kni", 0));
     }
 
     @Test
@@ -324,7 +388,7 @@ class ItemServiceImplTest {
         UserDto userDto = new UserDto(1, "email@mail.ru", "NameUser");
         User user = new User(1, "email@mail.ru", "NameUser");
         User owner1 = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForComment = new Item(1, "Hammer", "Big hammer", true, owner1, null);
+        Item itemForComment = new Item(1, "Hammer", "Big hammer", true, owner1, null, new HashSet<>());
         List<Booking> bookingsFromRepository = List.of(
                 new Booking(1, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), itemForComment, user, BookingStatus.APPROVED),
                 new Booking(2, LocalDateTime.now().minusMonths(1), LocalDateTime.now().minusWeeks(1), itemForComment, user, BookingStatus.APPROVED)
@@ -350,7 +414,7 @@ class ItemServiceImplTest {
     void createCommentTestThrowIllegalArgumentException() {
         UserDto userDto = new UserDto(1, "email@mail.ru", "NameUser");
         User owner1 = new User(2, "email2@mail.ru", "NameUser2");
-        Item itemForComment = new Item(1, "Hammer", "Big hammer", true, owner1, null);
+        Item itemForComment = new Item(1, "Hammer", "Big hammer", true, owner1, null, new HashSet<>());
         CommentDto commentDto = new CommentDto(0, "Comment text", null, null);
 
         Mockito.when(userService.getUserById(ArgumentMatchers.anyLong())).thenReturn(userDto);
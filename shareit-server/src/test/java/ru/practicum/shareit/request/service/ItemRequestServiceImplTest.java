@@ -25,7 +25,9 @@ import ru.practicum.shareit.user.userDto.UserDto;
 import ru.practicum.shareit.user.userDto.UserMapper;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @ExtendWith(MockitoExtension.class)
@@ -98,11 +100,8 @@ class ItemRequestServiceImplTest {
 
     @Test
     void getRequestByIdTestThrowDataNotFoundException() {
-        Mockito.when(userRepository.findAll()).thenReturn(List.of(
-                new User(1, "123@mail.ru", "Boris"),
-                new User(2, "456@mail,ru", "Morris")
-        ));
-        Mockito.when(itemRequestRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(null);
+        Mockito.when(userRepository.existsById(ArgumentMatchers.anyLong())).thenReturn(true);
+        Mockito.when(itemRequestRepository.findWithRequesterById(ArgumentMatchers.anyLong())).thenReturn(Optional.empty());
         Assertions.assertThrows(DataNotFound.class,
                 () -> itemRequestService.getRequestById(1L, 1));
     }
@@ -118,11 +117,8 @@ class ItemRequestServiceImplTest {
         );
         ItemRequestDto itemRequestDtoResult = ItemRequestMapper.toItemRequestDto(itemRequestAfterSave, List.of());
 
-        Mockito.when(userRepository.findAll()).thenReturn(List.of(
-                new User(1, "123@mail.ru", "Boris"),
-                new User(2, "456@mail,ru", "Morris")
-        ));
-        Mockito.when(itemRequestRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemRequestAfterSave);
+        Mockito.when(userRepository.existsById(ArgumentMatchers.anyLong())).thenReturn(true);
+        Mockito.when(itemRequestRepository.findWithRequesterById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(itemRequestAfterSave));
         Mockito.when(itemRepository.findItemByItemRequestId(ArgumentMatchers.anyLong())).thenReturn(null);
 
         ItemRequestDto itemRequestDtoFromService = itemRequestService.getRequestById(1, 1);
@@ -139,14 +135,14 @@ class ItemRequestServiceImplTest {
                 UserMapper.toUser(booker),
                 LocalDateTime.now()
         );
-        List<Item> itemFromRepository = List.of(new Item(1, "Hammer", "Big hammer", true, owner, null));
+        List<Item> itemFromRepository = List.of(new Item(1, "Hammer", "Big hammer", true, owner, null, new HashSet<>()));
         List<ItemDto> itemsByRequest = itemFromRepository.stream()
                 .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
         ItemRequestDto itemRequestDtoResult = ItemRequestMapper.toItemRequestDto(itemRequestAfterSave, itemsByRequest);
 
-        Mockito.when(userRepository.findAll()).thenReturn(List.of(UserMapper.toUser(booker), owner));
-        Mockito.when(itemRequestRepository.getReferenceById(ArgumentMatchers.anyLong())).thenReturn(itemRequestAfterSave);
+        Mockito.when(userRepository.existsById(ArgumentMatchers.anyLong())).thenReturn(true);
+        Mockito.when(itemRequestRepository.findWithRequesterById(ArgumentMatchers.anyLong())).thenReturn(Optional.of(itemRequestAfterSave));
         Mockito.when(itemRepository.findItemByItemRequestId(ArgumentMatchers.anyLong())).thenReturn(itemFromRepository);
 
         ItemRequestDto itemRequestDtoFromService = itemRequestService.getRequestById(1, 1);
@@ -169,16 +165,16 @@ class ItemRequestServiceImplTest {
                 UserMapper.toUser(booker),
                 LocalDateTime.now()
         );
-        List<Item> itemFromRepository = List.of(new Item(1, "Hammer", "Big hammer", true, owner, itemRequestAfterSave));
+        List<Item> itemFromRepository = List.of(new Item(1, "Hammer", "Big hammer", true, owner, itemRequestAfterSave, new HashSet<>()));
         List<ItemDto> itemsByRequest = itemFromRepository.stream()
                 .map(ItemMapper::toItemDto)
                 .collect(Collectors.toList());
         List<ItemRequest> itemRequests = List.of((itemRequestAfterSave));
         List<ItemRequestDto> itemRequestDtoResult = List.of(ItemRequestMapper.toItemRequestDto(itemRequestAfterSave, itemsByRequest));
 
-        Mockito.when(userRepository.findAll()).thenReturn(List.of(UserMapper.toUser(booker), owner));
+        Mockito.when(userRepository.existsById(ArgumentMatchers.anyLong())).thenReturn(true);
         Mockito.when(itemRequestRepository.findByRequesterId(ArgumentMatchers.anyLong())).thenReturn(itemRequests);
-        Mockito.when(itemRepository.findAll()).thenReturn(itemFromRepository);
+        Mockito.when(itemRepository.findItemByItemRequestIdIn(ArgumentMatchers.any())).thenReturn(itemFromRepository);
 
         List<ItemRequestDto> itemRequestDtoFromService = itemRequestService.getRequestsByUser(1);
         Assertions.assertEquals(itemRequestDtoResult, itemRequestDtoFromService);